@@ -0,0 +1,72 @@
+package com.santanna.kronos.benchmark;
+
+import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.utils.ConverterDto;
+import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+import com.santanna.kronos.infrastructure.mapper.ConverterDomainEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConverterBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int employees;
+
+    private CompanyEntity companyEntity;
+    private Company company;
+
+    @Setup
+    public void setUp() {
+        companyEntity = CompanyEntity.builder()
+                .id(UUID.randomUUID())
+                .nameCompany("Empresa")
+                .cnpj("1234567890112")
+                .build();
+        List<EmployeeEntity> entities = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            entities.add(EmployeeEntity.builder()
+                    .idEmployee(UUID.randomUUID())
+                    .cpf(String.valueOf(10_000_000_000L + i))
+                    .name("Nome")
+                    .surname("Sobrenome")
+                    .email("mail@exemplo.com")
+                    .salary(new BigDecimal("1500.00"))
+                    .position("Developer")
+                    .company(companyEntity)
+                    .build());
+        }
+        companyEntity.setEmployees(entities);
+        company = ConverterDomainEntity.toDomain(companyEntity);
+    }
+
+    @Benchmark
+    public Company entityToDomain() {
+        return ConverterDomainEntity.toDomain(companyEntity);
+    }
+
+    @Benchmark
+    public CompanyEntity domainToEntity() {
+        return ConverterDomainEntity.toEntity(company);
+    }
+
+    @Benchmark
+    public CompanyResponseDto companyToDto() {
+        return ConverterDto.toDto(company);
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDto> employeesToDto() {
+        return company.getEmployees().stream().map(ConverterDto::toDto).toList();
+    }
+}
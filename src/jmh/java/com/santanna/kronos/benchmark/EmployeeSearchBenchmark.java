@@ -0,0 +1,137 @@
+package com.santanna.kronos.benchmark;
+
+import com.santanna.kronos.KronosApplication;
+import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.dto.employee.EmployeeSearchRequestDto;
+import com.santanna.kronos.application.usecase.EmployeeUseCase;
+import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.infrastructure.entity.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Latência de GET /v1/employee/search (caso de uso + consulta) sobre ROWS colaboradores carregados direto via JDBC.
+// Por padrão usa o H2 em memória do perfil de teste, migrado pelo Flyway com os índices de V2; para medir no MySQL
+// sobrescreva SPRING_DATASOURCE_URL/USERNAME/PASSWORD e SPRING_JPA_DATABASE_PLATFORM
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class EmployeeSearchBenchmark {
+    public static final int COMPANIES = 1000;
+    public static final int BATCH = 10_000;
+    public static final int PAGE_SIZE = 20;
+    public static final List<String> POSITIONS = List.of("Developer", "Analyst", "Manager", "Designer", "Tester",
+            "Architect", "Support", "Sales", "Finance", "Recruiter");
+    public static final List<String> NAMES = List.of("Ana", "André", "Beatriz", "Bruno", "Carla", "Carlos", "Daniela",
+            "Diego", "Eduarda", "Felipe", "Gabriela", "Gustavo", "Helena", "Igor", "Juliana", "João", "Larissa",
+            "Lucas", "Mariana", "Mateus", "Natália", "Otávio", "Paula", "Pedro", "Rafaela", "Rodrigo", "Sofia",
+            "Thiago", "Vitória", "Yuri");
+
+    @Param({"2000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeUseCase employeeUseCase;
+    private final List<String> cnpjs = new ArrayList<>(COMPANIES);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(KronosApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                .run();
+        employeeUseCase = context.getBean(EmployeeUseCase.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PaginatedList<EmployeeResponseDto> byCompany() {
+        return search(new EmployeeSearchRequestDto(randomCnpj(), null, null, null, null, "name"));
+    }
+
+    @Benchmark
+    public PaginatedList<EmployeeResponseDto> byCompanyPositionAndSalaryBand() {
+        return search(new EmployeeSearchRequestDto(randomCnpj(), randomPosition(), 5000.0, 10000.0, null, "salary"));
+    }
+
+    @Benchmark
+    public PaginatedList<EmployeeResponseDto> byPositionAndSalaryBand() {
+        return search(new EmployeeSearchRequestDto(null, randomPosition(), 5000.0, 5100.0, null, "salary,desc"));
+    }
+
+    @Benchmark
+    public PaginatedList<EmployeeResponseDto> byNamePrefix() {
+        var name = NAMES.get(ThreadLocalRandom.current().nextInt(NAMES.size()));
+        return search(new EmployeeSearchRequestDto(null, null, null, null, name.substring(0, 3), "name"));
+    }
+
+    private PaginatedList<EmployeeResponseDto> search(EmployeeSearchRequestDto searchDto) {
+        return employeeUseCase.searchEmployees(searchDto, 0, PAGE_SIZE).body();
+    }
+
+    private String randomCnpj() {
+        return cnpjs.get(ThreadLocalRandom.current().nextInt(cnpjs.size()));
+    }
+
+    private static String randomPosition() {
+        return POSITIONS.get(ThreadLocalRandom.current().nextInt(POSITIONS.size()));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        var random = new Random(42);
+        List<byte[]> companyIds = new ArrayList<>(COMPANIES);
+        List<Object[]> companies = new ArrayList<>(COMPANIES);
+        for (int c = 0; c < COMPANIES; c++) {
+            var id = bytes(UuidV7Generator.next());
+            var cnpj = String.valueOf(1_000_000_000_000L + c);
+            companyIds.add(id);
+            cnpjs.add(cnpj);
+            companies.add(new Object[]{id, cnpj, "Empresa " + c});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tb_company (id, cnpj, name_company) VALUES (?, ?, ?)", companies);
+
+        List<Object[]> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{
+                    bytes(UuidV7Generator.next()),
+                    String.valueOf(10_000_000_000L + i),
+                    NAMES.get(random.nextInt(NAMES.size())),
+                    "Sobrenome",
+                    "mail@exemplo.com",
+                    1000.0 + random.nextInt(19_000),
+                    POSITIONS.get(random.nextInt(POSITIONS.size())),
+                    companyIds.get(random.nextInt(COMPANIES))
+            });
+            if (batch.size() == BATCH || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tb_employee " +
+                        "(id_employee, cpf, name, surname, email, salary, position, company_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,104 @@
+package com.santanna.kronos.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.adapters.json.PageJsonComponent;
+import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.utils.ConverterDto;
+import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.model.CompanySummary;
+import com.santanna.kronos.domain.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Bytes alocados por requisição (domínio -> DTO -> JSON) em gc.alloc.rate.norm:
+// gradle jmh -PjmhIncludes=PageSerializationBenchmark -PjmhProfilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private final OutputStream out = OutputStream.nullOutputStream();
+    private ObjectMapper reflective;
+    private ObjectMapper streaming;
+    private PaginatedList<Employee> employees;
+    private PaginatedList<CompanySummary> companies;
+
+    @Setup
+    public void setUp() {
+        // O stream descartável é reaproveitado entre as chamadas: o writeValue não pode fechá-lo
+        reflective = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+        streaming = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .serializers(new PageJsonComponent.PaginatedListSerializer(),
+                        new PageJsonComponent.EmployeeResponseSerializer(),
+                        new PageJsonComponent.CompanyResponseSerializer())
+                .build();
+
+        var company = Company.builder().id(UUID.randomUUID()).cnpj("1234567890112").nameCompany("Empresa").build();
+        List<Employee> employeeRows = new ArrayList<>(pageSize);
+        List<CompanySummary> companyRows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            employeeRows.add(Employee.builder()
+                    .idEmployee(UUID.randomUUID())
+                    .cpf(String.valueOf(10_000_000_000L + i))
+                    .name("Nome")
+                    .surname("Sobrenome")
+                    .email("mail@exemplo.com")
+                    .salaryCents(150_000L)
+                    .position("Developer")
+                    .company(company)
+                    .build());
+            companyRows.add(CompanySummary.builder()
+                    .id(UUID.randomUUID())
+                    .cnpj(String.valueOf(1_000_000_000_000L + i))
+                    .nameCompany("Empresa " + i)
+                    .employeeCount(i)
+                    .build());
+        }
+        employees = new PaginatedList<>(employeeRows, 0, pageSize, 100_000);
+        companies = new PaginatedList<>(companyRows, 0, pageSize, 100_000);
+    }
+
+    // Caminho anterior: lista de DTOs copiada e serialização por reflexão
+    @Benchmark
+    public void employeesCopiedReflective() throws IOException {
+        reflective.writeValue(out, new PaginatedList<>(
+                employees.getContent().stream().map(ConverterDto::toDto).collect(Collectors.toList()),
+                employees.getPageNumber(), employees.getPageSize(), employees.getTotalElements()));
+    }
+
+    @Benchmark
+    public void employeesStreamed() throws IOException {
+        PaginatedList<EmployeeResponseDto> page = employees.map(ConverterDto::toDto);
+        streaming.writeValue(out, page);
+    }
+
+    @Benchmark
+    public void companiesCopiedReflective() throws IOException {
+        reflective.writeValue(out, new PaginatedList<>(
+                companies.getContent().stream().map(ConverterDto::toDto).collect(Collectors.toList()),
+                companies.getPageNumber(), companies.getPageSize(), companies.getTotalElements()));
+    }
+
+    @Benchmark
+    public void companiesStreamed() throws IOException {
+        PaginatedList<CompanyResponseDto> page = companies.map(ConverterDto::toDto);
+        streaming.writeValue(out, page);
+    }
+}
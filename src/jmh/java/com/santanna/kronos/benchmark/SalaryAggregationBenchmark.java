@@ -0,0 +1,90 @@
+package com.santanna.kronos.benchmark;
+
+import com.santanna.kronos.domain.common.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Soma, média, mínimo e máximo da folha sobre a mesma lista de salários em três representações:
+// Double em caixa (modelo anterior), BigDecimal (exato, mas aloca a cada soma) e centavos em long (exato, sem alocar).
+// Para ver a alocação por operação: gradle jmh -PjmhIncludes=SalaryAggregationBenchmark -PjmhProfilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalaryAggregationBenchmark {
+
+    @Param({"1000", "100000"})
+    public int employees;
+
+    private List<Double> boxed;
+    private List<BigDecimal> decimals;
+    private long[] cents;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        boxed = new ArrayList<>(employees);
+        decimals = new ArrayList<>(employees);
+        cents = new long[employees];
+        for (int i = 0; i < employees; i++) {
+            long value = random.nextLong(100_000, 5_000_000);
+            boxed.add(Money.toDouble(value));
+            decimals.add(Money.toDecimal(value));
+            cents[i] = value;
+        }
+    }
+
+    @Benchmark
+    public void boxedDouble(Blackhole blackhole) {
+        Double total = 0.0;
+        Double min = Double.MAX_VALUE;
+        Double max = -Double.MAX_VALUE;
+        for (Double salary : boxed) {
+            total += salary;
+            min = Math.min(min, salary);
+            max = Math.max(max, salary);
+        }
+        blackhole.consume(total);
+        blackhole.consume(total / boxed.size());
+        blackhole.consume(min);
+        blackhole.consume(max);
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal min = decimals.get(0);
+        BigDecimal max = decimals.get(0);
+        for (BigDecimal salary : decimals) {
+            total = total.add(salary);
+            min = min.min(salary);
+            max = max.max(salary);
+        }
+        blackhole.consume(total);
+        blackhole.consume(total.divide(BigDecimal.valueOf(decimals.size()), Money.SCALE, RoundingMode.HALF_UP));
+        blackhole.consume(min);
+        blackhole.consume(max);
+    }
+
+    @Benchmark
+    public void longCents(Blackhole blackhole) {
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long salary : cents) {
+            total += salary;
+            min = Math.min(min, salary);
+            max = Math.max(max, salary);
+        }
+        blackhole.consume(total);
+        blackhole.consume(Money.average(total, cents.length));
+        blackhole.consume(min);
+        blackhole.consume(max);
+    }
+}
@@ -0,0 +1,70 @@
+package com.santanna.kronos.benchmark;
+
+import com.santanna.kronos.KronosApplication;
+import com.santanna.kronos.application.dto.company.CompanyRequestDto;
+import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
+import com.santanna.kronos.application.usecase.CompanyUseCase;
+import com.santanna.kronos.application.usecase.EmployeeUseCase;
+import com.santanna.kronos.domain.common.PaginatedList;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Sobe o contexto Spring sem servidor web com o perfil de teste (H2 em memória migrado pelo Flyway)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UseCaseBenchmark {
+    public static final int COMPANIES = 100;
+    public static final int EMPLOYEES_PER_COMPANY = 10;
+
+    private final AtomicLong nextCpf = new AtomicLong(10_000_000_000L);
+    private ConfigurableApplicationContext context;
+    private EmployeeUseCase employeeUseCase;
+    private CompanyUseCase companyUseCase;
+    private String cnpj;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(KronosApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN")
+                .run();
+        employeeUseCase = context.getBean(EmployeeUseCase.class);
+        companyUseCase = context.getBean(CompanyUseCase.class);
+
+        for (int c = 0; c < COMPANIES; c++) {
+            cnpj = String.valueOf(1_000_000_000_000L + c);
+            companyUseCase.addCompany(new CompanyRequestDto(cnpj, "Empresa " + c));
+            for (int e = 0; e < EMPLOYEES_PER_COMPANY; e++) {
+                employeeUseCase.addEmployee(nextEmployee());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void addEmployee() {
+        employeeUseCase.addEmployee(nextEmployee());
+    }
+
+    @Benchmark
+    public PaginatedList<CompanyResponseDto> findAllCompanies() {
+        return companyUseCase.findAllCompanies(0, 20).body();
+    }
+
+    private EmployeeRequestDto nextEmployee() {
+        return new EmployeeRequestDto(String.valueOf(nextCpf.getAndIncrement()), "Nome", "Sobrenome",
+                "mail@exemplo.com", 1500.0, "Developer", cnpj);
+    }
+}
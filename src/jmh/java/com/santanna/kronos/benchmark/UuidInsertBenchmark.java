@@ -0,0 +1,92 @@
+package com.santanna.kronos.benchmark;
+
+import com.santanna.kronos.infrastructure.entity.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Tempo para inserir ROWS linhas com chave BINARY(16) aleatória (v4) ou ordenada no tempo (v7).
+// Por padrão roda num H2 em memória; para medir o efeito no índice clusterizado do InnoDB aponte para um MySQL:
+// KRONOS_BENCH_JDBC_URL=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true KRONOS_BENCH_JDBC_USER=root
+// KRONOS_BENCH_JDBC_PASSWORD=root gradle jmh -PjmhIncludes=UuidInsertBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 2)
+public class UuidInsertBenchmark {
+    public static final int BATCH = 1000;
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"RANDOM", "V7"})
+    public String scheme;
+
+    private Connection connection;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("KRONOS_BENCH_JDBC_URL").orElse("jdbc:h2:mem:uuid_bench;MODE=MySQL;DB_CLOSE_DELAY=-1"),
+                env("KRONOS_BENCH_JDBC_USER").orElse("sa"),
+                env("KRONOS_BENCH_JDBC_PASSWORD").orElse(""));
+        connection.setAutoCommit(false);
+        ids = "V7".equals(scheme) ? UuidV7Generator::next : UUID::randomUUID;
+    }
+
+    @Setup(Level.Iteration)
+    public void createTable() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_uuid_insert");
+            statement.execute("CREATE TABLE bench_uuid_insert (id BINARY(16) NOT NULL PRIMARY KEY, " +
+                    "cpf VARCHAR(11), name VARCHAR(255), salary DOUBLE)");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_uuid_insert");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public void insert() throws SQLException {
+        var buffer = ByteBuffer.allocate(16);
+        try (var insert = connection.prepareStatement(
+                "INSERT INTO bench_uuid_insert (id, cpf, name, salary) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                var id = ids.get();
+                buffer.clear();
+                buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+                insert.setBytes(1, buffer.array().clone());
+                insert.setString(2, Long.toString(10_000_000_000L + i));
+                insert.setString(3, "Nome");
+                insert.setDouble(4, 1500.0);
+                insert.addBatch();
+                if (i % BATCH == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static Optional<String> env(String name) {
+        return Optional.ofNullable(System.getenv(name));
+    }
+}
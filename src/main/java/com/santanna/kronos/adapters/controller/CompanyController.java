@@ -2,16 +2,24 @@ package com.santanna.kronos.adapters.controller;
 
 import com.santanna.kronos.application.dto.company.CompanyRequestDto;
 import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.application.dto.company.DeletionJobDto;
 import com.santanna.kronos.application.dto.company.UpdateCompanyRequestDto;
+import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.usecase.CompanyDeletionUseCase;
 import com.santanna.kronos.application.usecase.CompanyUseCase;
+import com.santanna.kronos.application.usecase.EmployeeUseCase;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
 import java.util.UUID;
 
 @Tag(name = "Company Controller", description = "Management Company")
@@ -19,19 +27,48 @@ import java.util.UUID;
 @RequestMapping("/v1/company")
 public class CompanyController {
     private final CompanyUseCase companyUseCase;
+    private final CompanyDeletionUseCase companyDeletionUseCase;
+    private final EmployeeUseCase employeeUseCase;
 
-    public CompanyController(CompanyUseCase companyUseCase) {
+    public CompanyController(CompanyUseCase companyUseCase, CompanyDeletionUseCase companyDeletionUseCase,
+                             EmployeeUseCase employeeUseCase) {
         this.companyUseCase = companyUseCase;
+        this.companyDeletionUseCase = companyDeletionUseCase;
+        this.employeeUseCase = employeeUseCase;
     }
 
     @Operation(
             summary = "Buscar Empresa pelo id",
-            description = "Acesso as informações de uma empresa."
+            description = "Acesso as informações de uma empresa. " +
+                    "Responde 304 quando o If-None-Match confere com o ETag."
     )
     @GetMapping("/{id}")
-    public ResponseEntity<CompanyResponseDto> getCompanyById(@PathVariable UUID id) {
+    public ResponseEntity<CompanyResponseDto> getCompanyById(@PathVariable UUID id, WebRequest request) {
+        // Revalidação confere só versão e total de colaboradores antes de ler nome e CNPJ
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            var eTag = companyUseCase.findCompanyETag(id);
+            if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+            }
+        }
         var companyData = companyUseCase.findCompanyById(id);
-        return ResponseEntity.ok(companyData);
+        // Com o ETag na resposta, o Spring devolve 304 sem serializar o corpo quando o If-None-Match confere
+        return ResponseEntity.ok().eTag(companyData.eTag()).body(companyData.body());
+    }
+
+    @GetMapping("/{id}/employees")
+    @Operation(
+            summary = "Administrador lista os colaboradores de uma empresa",
+            description = "Paginação por cursor: omita after na primeira página e depois envie o nextCursor retornado."
+    )
+    public ResponseEntity<CursorPage<EmployeeResponseDto>> getCompanyEmployees(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        var employees = employeeUseCase.getCompanyEmployeesAfter(id, after, size, withTotal);
+        return ResponseEntity.ok().eTag(employees.eTag()).body(employees.body());
     }
 
     @GetMapping
@@ -43,8 +80,22 @@ public class CompanyController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        PaginatedList<CompanyResponseDto> employees = companyUseCase.findAllCompanies(page, size);
-        return ResponseEntity.ok(employees);
+        var companies = companyUseCase.findAllCompanies(page, size);
+        return ResponseEntity.ok().eTag(companies.eTag()).body(companies.body());
+    }
+
+    @GetMapping(params = "after")
+    @Operation(
+            summary = "Administrador busca as empresas por cursor",
+            description = "Paginação por cursor: envie after vazio para a primeira página e depois o nextCursor retornado."
+    )
+    public ResponseEntity<CursorPage<CompanyResponseDto>> getCompaniesByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        var companies = companyUseCase.findCompaniesAfter(after, size, withTotal);
+        return ResponseEntity.ok().eTag(companies.eTag()).body(companies.body());
     }
 
     @PostMapping
@@ -57,10 +108,10 @@ public class CompanyController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
-    @PutMapping("/{idTarget}")
+    @RequestMapping(value = "/{idTarget}", method = {RequestMethod.PUT, RequestMethod.PATCH})
     @Operation(
             summary = "Administrador atualiza dados da empresa",
-            description = "Atualiza dados de uma empresa."
+            description = "Atualiza apenas os campos enviados de uma empresa."
     )
     public ResponseEntity<Void> updateCompany(
             @PathVariable UUID idTarget,
@@ -75,4 +126,22 @@ public class CompanyController {
         companyUseCase.deleteCompany(idTarget);
         return ResponseEntity.noContent().build();
     }
+
+    @DeleteMapping(value = "/{idTarget}", params = "async=true")
+    @Operation(
+            summary = "Administrador Deleta uma Empresa em segundo plano",
+            description = "Para empresas grandes: exclui os colaboradores em blocos e retorna 202 com o endereço para acompanhar o progresso."
+    )
+    public ResponseEntity<DeletionJobDto> deleteCompanyAsync(@PathVariable UUID idTarget) {
+        var job = companyDeletionUseCase.startDeletion(idTarget);
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/company/deletions/" + job.jobId()))
+                .body(job);
+    }
+
+    @GetMapping("/deletions/{jobId}")
+    @Operation(summary = "Acompanha o progresso da exclusão de uma empresa")
+    public ResponseEntity<DeletionJobDto> getDeletion(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(companyDeletionUseCase.findDeletion(jobId));
+    }
 }
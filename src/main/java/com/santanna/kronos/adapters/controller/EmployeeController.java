@@ -1,40 +1,80 @@
 package com.santanna.kronos.adapters.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.santanna.kronos.application.dto.employee.EmployeeChangeDto;
 import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
 import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.dto.employee.EmployeeSearchRequestDto;
+import com.santanna.kronos.application.dto.employee.ExportFormat;
+import com.santanna.kronos.application.dto.employee.ImportResultDto;
 import com.santanna.kronos.application.dto.employee.UpdateRequestDto;
+import com.santanna.kronos.application.exception.BadRequestException;
+import com.santanna.kronos.application.usecase.EmployeeChangeFeedUseCase;
+import com.santanna.kronos.application.usecase.EmployeeExportUseCase;
+import com.santanna.kronos.application.usecase.EmployeeImportUseCase;
 import com.santanna.kronos.application.usecase.EmployeeUseCase;
+import com.santanna.kronos.domain.common.ChangeFeed;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.UUID;
 
 @Tag(name = "Employee Controller", description = "Management Employee")
 @RestController
 @RequestMapping("/v1/employee")
 public class EmployeeController {
+    public static final String INVALID_FILE_400 = "Arquivo de importação inválido";
 
     private final EmployeeUseCase employeeUseCase;
+    private final EmployeeImportUseCase employeeImportUseCase;
+    private final EmployeeExportUseCase employeeExportUseCase;
+    private final EmployeeChangeFeedUseCase employeeChangeFeedUseCase;
+    private final ObjectReader employeeReader;
 
-    public EmployeeController(EmployeeUseCase employeeUseCase) {
+    public EmployeeController(EmployeeUseCase employeeUseCase, EmployeeImportUseCase employeeImportUseCase,
+                              EmployeeExportUseCase employeeExportUseCase,
+                              EmployeeChangeFeedUseCase employeeChangeFeedUseCase, ObjectMapper objectMapper) {
         this.employeeUseCase = employeeUseCase;
+        this.employeeImportUseCase = employeeImportUseCase;
+        this.employeeExportUseCase = employeeExportUseCase;
+        this.employeeChangeFeedUseCase = employeeChangeFeedUseCase;
+        this.employeeReader = objectMapper.readerFor(EmployeeRequestDto.class);
     }
 
     @Operation(
             summary = "Buscar funcionário pelo id",
-            description = "Usuário tem acesso as suas própias informações."
+            description = "Usuário tem acesso as suas própias informações. " +
+                    "Responde 304 quando o If-None-Match confere com o ETag."
     )
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<EmployeeResponseDto> getEmployeeData(@PathVariable UUID id)
-             {
+    public ResponseEntity<EmployeeResponseDto> getEmployeeData(@PathVariable UUID id, WebRequest request) {
+        // Revalidação confere só a versão (uma leitura pela chave primária) antes de montar a resposta
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            var eTag = employeeUseCase.findEmployeeETag(id);
+            if (eTag.isPresent() && request.checkNotModified(eTag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+            }
+        }
         var employeeData = employeeUseCase.getEmployeeById(id);
-        return ResponseEntity.ok(employeeData);
+        // Com o ETag na resposta, o Spring devolve 304 sem serializar o corpo quando o If-None-Match confere
+        return ResponseEntity.ok().eTag(employeeData.eTag()).body(employeeData.body());
     }
 
     @GetMapping
@@ -47,8 +87,89 @@ public class EmployeeController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        PaginatedList<EmployeeResponseDto> employees = employeeUseCase.getAllEmployees(page, size);
-        return ResponseEntity.ok(employees);
+        var employees = employeeUseCase.getAllEmployees(page, size);
+        return ResponseEntity.ok().eTag(employees.eTag()).body(employees.body());
+    }
+
+    @GetMapping(params = "after")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Administrador busca os funcionários por cursor",
+            description = """
+                    Paginação por cursor: envie after vazio para a primeira página e depois o nextCursor retornado.
+                     \
+                    O total de registros só é calculado quando withTotal=true.
+                    """
+    )
+    public ResponseEntity<CursorPage<EmployeeResponseDto>> getEmployeesByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        var employees = employeeUseCase.getEmployeesAfter(after, size, withTotal);
+        return ResponseEntity.ok().eTag(employees.eTag()).body(employees.body());
+    }
+
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Administrador busca funcionários por filtros",
+            description = """
+                    Filtra no servidor por CNPJ da empresa, cargo, faixa salarial e início do nome, todos opcionais.
+                     \
+                    Ordenação por name, salary ou position (ex.: sort=salary,desc).
+                     \
+                    Alcança os primeiros 10000 resultados, e totalElements conta até esse limite.
+                    """
+    )
+    public ResponseEntity<PaginatedList<EmployeeResponseDto>> searchEmployees(
+            @Valid @ParameterObject EmployeeSearchRequestDto searchDto,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        var employees = employeeUseCase.searchEmployees(searchDto, page, size);
+        return ResponseEntity.ok().eTag(employees.eTag()).body(employees.body());
+    }
+
+    @GetMapping("/changes")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Sincronização incremental de funcionários",
+            description = """
+                    Retorna inclusões, alterações e exclusões posteriores ao token since, em lotes de até 1000.
+                     \
+                    Sem since devolve todos os colaboradores; repita com o nextToken enquanto hasMore for true
+                    e guarde o último para a próxima sincronização.
+                    """
+    )
+    public ResponseEntity<ChangeFeed<EmployeeChangeDto>> getEmployeeChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        ChangeFeed<EmployeeChangeDto> changes = employeeChangeFeedUseCase.getChanges(since, size);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping("/export")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Exporta todos os funcionários",
+            description = """
+                    Exporta os colaboradores em NDJSON ou CSV, escrevendo as linhas conforme são lidas do banco.
+                     \
+                    O parâmetro cnpj restringe a exportação a uma empresa.
+                    """
+    )
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String cnpj
+    ) {
+        var exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> employeeExportUseCase.exportEmployees(cnpj, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=employees." + exportFormat.getExtension())
+                .body(body);
     }
 
     @PostMapping
@@ -67,11 +188,29 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
-    @PutMapping("/{idTarget}")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(
+            summary = "Administrador importa funcionários em lote",
+            description = """
+                    Recebe um array JSON ou NDJSON (um colaborador por linha) e cadastra em lotes.
+                     \
+                    Registros inválidos, CPFs já cadastrados ou empresas inexistentes são reportados por linha.
+                    """
+    )
+    public ResponseEntity<ImportResultDto> importEmployees(HttpServletRequest request) throws IOException {
+        // Os registros são lidos do corpo da requisição sob demanda, sem materializar o arquivo inteiro
+        try (MappingIterator<EmployeeRequestDto> iterator = employeeReader.readValues(request.getInputStream())) {
+            var result = employeeImportUseCase.importEmployees(rows(iterator));
+            return ResponseEntity.ok(result);
+        }
+    }
+
+    @RequestMapping(value = "/{idTarget}", method = {RequestMethod.PUT, RequestMethod.PATCH})
     @ResponseStatus(HttpStatus.OK)
     @Operation(
             summary = "Administrador atualiza dados do funcionário",
-            description = "Atualiza dados de um colaborador."
+            description = "Atualiza apenas os campos enviados de um colaborador."
     )
     public ResponseEntity<Void> updateEmployee(
             @PathVariable UUID idTarget,
@@ -80,7 +219,7 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
-    @PutMapping("email/update/{idTarget}")
+    @RequestMapping(value = "email/update/{idTarget}", method = {RequestMethod.PUT, RequestMethod.PATCH})
     @ResponseStatus(HttpStatus.OK)
     @Operation(
             summary = "Alteração de email",
@@ -101,4 +240,25 @@ public class EmployeeController {
         return ResponseEntity.noContent().build();
     }
 
+    private static Iterator<EmployeeRequestDto> rows(MappingIterator<EmployeeRequestDto> iterator) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return iterator.hasNextValue();
+                } catch (IOException ex) {
+                    throw new BadRequestException(INVALID_FILE_400);
+                }
+            }
+
+            @Override
+            public EmployeeRequestDto next() {
+                try {
+                    return iterator.nextValue();
+                } catch (IOException ex) {
+                    throw new BadRequestException(INVALID_FILE_400);
+                }
+            }
+        };
+    }
 }
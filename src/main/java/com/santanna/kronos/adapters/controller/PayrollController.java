@@ -0,0 +1,54 @@
+package com.santanna.kronos.adapters.controller;
+
+import com.santanna.kronos.application.dto.payroll.PayrollSummaryDto;
+import com.santanna.kronos.application.usecase.PayrollUseCase;
+import com.santanna.kronos.domain.common.PaginatedList;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Payroll Controller", description = "Payroll Reports")
+@RestController
+@RequestMapping("/v1/payroll")
+public class PayrollController {
+    private static final String STALENESS = "Os resumos são recalculados em segundo plano: uma alteração de colaborador "
+            + "aparece depois de até kronos.payroll.refresh-interval (5 segundos por padrão).";
+
+    private final PayrollUseCase payrollUseCase;
+
+    public PayrollController(PayrollUseCase payrollUseCase) {
+        this.payrollUseCase = payrollUseCase;
+    }
+
+    @GetMapping("/companies")
+    @Operation(
+            summary = "Administrador consulta a folha de todas as empresas",
+            description = "Quantidade de colaboradores, total, média, mínimo, máximo, mediana e percentil 90 dos salários por empresa. "
+                    + STALENESS
+    )
+    public ResponseEntity<PaginatedList<PayrollSummaryDto>> getCompanySummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(payrollUseCase.findCompanySummaries(page, size));
+    }
+
+    @GetMapping("/companies/{id}")
+    @Operation(summary = "Administrador consulta a folha de uma empresa", description = STALENESS)
+    public ResponseEntity<PayrollSummaryDto> getCompanySummary(@PathVariable UUID id) {
+        return ResponseEntity.ok(payrollUseCase.findCompanySummary(id));
+    }
+
+    @GetMapping("/companies/{id}/positions")
+    @Operation(
+            summary = "Administrador consulta a folha de uma empresa por cargo",
+            description = "Os mesmos agregados da empresa, um item por cargo. " + STALENESS
+    )
+    public ResponseEntity<List<PayrollSummaryDto>> getPositionSummaries(@PathVariable UUID id) {
+        return ResponseEntity.ok(payrollUseCase.findPositionSummaries(id));
+    }
+}
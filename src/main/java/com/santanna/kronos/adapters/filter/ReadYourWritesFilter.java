@@ -0,0 +1,122 @@
+package com.santanna.kronos.adapters.filter;
+
+import com.santanna.kronos.domain.common.ChangeSequence;
+import com.santanna.kronos.infrastructure.datasource.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Set;
+
+// Depois de uma escrita o cliente recebe um cookie com a posição dela; enquanto o cookie vale, as leituras desse
+// cliente só vão para réplicas cujo batimento aplicado já passou dessa posição (as demais caem no primário)
+@Component
+@ConditionalOnProperty("kronos.datasource.replicas[0].url")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String WRITE_POSITION_COOKIE = "kronos-write-position";
+    private static final Set<String> WRITE_METHODS = Set.of(HttpMethod.POST.name(), HttpMethod.PUT.name(),
+            HttpMethod.PATCH.name(), HttpMethod.DELETE.name());
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(@Value("${kronos.datasource.read-your-writes-window:PT1M}") Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/v1/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var position = writePosition(request);
+        if (position > 0) {
+            ReadYourWrites.require(position);
+        }
+        try {
+            if (!WRITE_METHODS.contains(request.getMethod())) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            var stamped = new WritePositionResponse(response);
+            filterChain.doFilter(request, stamped);
+            stamped.stamp();
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private static long writePosition(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0L;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (WRITE_POSITION_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    // A posição é tomada quando a resposta vai ser enviada: a transação do caso de uso já foi confirmada,
+    // então qualquer batimento gravado depois dela vem depois da escrita na replicação
+    private class WritePositionResponse extends HttpServletResponseWrapper {
+        private boolean stamped;
+
+        WritePositionResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void stamp() {
+            if (stamped || isCommitted() || getStatus() >= 400) {
+                return;
+            }
+            stamped = true;
+            var cookie = ResponseCookie.from(WRITE_POSITION_COOKIE, Long.toString(ChangeSequence.next()))
+                    .path("/")
+                    .maxAge(window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            stamp();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            stamp();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            stamp();
+            super.flushBuffer();
+        }
+    }
+}
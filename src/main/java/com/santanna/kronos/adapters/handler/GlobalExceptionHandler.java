@@ -1,6 +1,8 @@
 package com.santanna.kronos.adapters.handler;
 
+import com.santanna.kronos.application.exception.BadRequestException;
 import com.santanna.kronos.application.exception.NotFoundException;
+import com.santanna.kronos.domain.exception.DomainException;
 import com.santanna.kronos.infrastructure.exception.DatabaseException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
@@ -22,6 +24,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<String> handleBadRequestException(BadRequestException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<String> handleDomainException(DomainException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
     @ExceptionHandler(DatabaseException.class)
     public ResponseEntity<String> handleDatabaseException(DatabaseException ex) {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body("Erro ao acessar o banco de dados." + ex.getMessage());
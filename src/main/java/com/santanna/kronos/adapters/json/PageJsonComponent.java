@@ -0,0 +1,142 @@
+package com.santanna.kronos.adapters.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.domain.common.PaginatedList;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.UUID;
+
+// Serializadores escritos à mão para as páginas da API: nomes de campo já codificados e os itens escritos
+// direto no gerador, sem reflexão nem coleções intermediárias. O JSON é o mesmo da serialização padrão
+@JsonComponent
+public class PageJsonComponent {
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE_NUMBER = new SerializedString("pageNumber");
+    private static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CPF = new SerializedString("cpf");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString SURNAME = new SerializedString("surname");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString SALARY = new SerializedString("salary");
+    private static final SerializedString POSITION = new SerializedString("position");
+    private static final SerializedString NAME_COMPANY = new SerializedString("nameCompany");
+    private static final SerializedString CNPJ = new SerializedString("cnpj");
+    private static final SerializedString EMPLOYEE_COUNT = new SerializedString("employeeCount");
+
+    public static class PaginatedListSerializer extends StdSerializer<PaginatedList<?>> {
+
+        @SuppressWarnings("unchecked")
+        public PaginatedListSerializer() {
+            super((Class<PaginatedList<?>>) (Class<?>) PaginatedList.class);
+        }
+
+        @Override
+        public void serialize(PaginatedList<?> page, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(page);
+            gen.writeFieldName(CONTENT);
+            var content = page.getContent();
+            if (content == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(content, content.size());
+                // O serializador do item é resolvido uma vez por página, não a cada linha
+                Class<?> itemType = null;
+                JsonSerializer<Object> itemSerializer = null;
+                for (Object item : content) {
+                    if (item == null) {
+                        gen.writeNull();
+                        continue;
+                    }
+                    if (item.getClass() != itemType) {
+                        itemType = item.getClass();
+                        itemSerializer = provider.findValueSerializer(itemType);
+                    }
+                    itemSerializer.serialize(item, gen, provider);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeFieldName(PAGE_NUMBER);
+            gen.writeNumber(page.getPageNumber());
+            gen.writeFieldName(PAGE_SIZE);
+            gen.writeNumber(page.getPageSize());
+            gen.writeFieldName(TOTAL_ELEMENTS);
+            gen.writeNumber(page.getTotalElements());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class EmployeeResponseSerializer extends StdSerializer<EmployeeResponseDto> {
+
+        public EmployeeResponseSerializer() {
+            super(EmployeeResponseDto.class);
+        }
+
+        @Override
+        public void serialize(EmployeeResponseDto employee, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(employee);
+            writeUuid(gen, ID, employee.id());
+            writeString(gen, CPF, employee.cpf());
+            writeString(gen, NAME, employee.name());
+            writeString(gen, SURNAME, employee.surname());
+            writeString(gen, EMAIL, employee.email());
+            gen.writeFieldName(SALARY);
+            if (employee.salary() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(employee.salary().doubleValue());
+            }
+            writeString(gen, POSITION, employee.position());
+            writeString(gen, NAME_COMPANY, employee.nameCompany());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class CompanyResponseSerializer extends StdSerializer<CompanyResponseDto> {
+
+        public CompanyResponseSerializer() {
+            super(CompanyResponseDto.class);
+        }
+
+        @Override
+        public void serialize(CompanyResponseDto company, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(company);
+            writeUuid(gen, ID, company.id());
+            writeString(gen, CNPJ, company.cnpj());
+            writeString(gen, NAME_COMPANY, company.nameCompany());
+            gen.writeFieldName(EMPLOYEE_COUNT);
+            if (company.employeeCount() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(company.employeeCount().intValue());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeUuid(JsonGenerator gen, SerializableString name, UUID value) throws IOException {
+        writeString(gen, name, value != null ? value.toString() : null);
+    }
+}
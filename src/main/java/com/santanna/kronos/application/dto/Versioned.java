@@ -0,0 +1,5 @@
+package com.santanna.kronos.application.dto;
+
+// Corpo da resposta com o ETag forte correspondente; o controller devolve 304 quando o If-None-Match confere
+public record Versioned<T>(T body, String eTag) {
+}
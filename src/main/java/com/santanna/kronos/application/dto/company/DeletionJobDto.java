@@ -0,0 +1,21 @@
+package com.santanna.kronos.application.dto.company;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+public record DeletionJobDto(
+        @Schema(description = "Identificador da exclusão em andamento")
+        UUID jobId,
+        @Schema(description = "Empresa sendo excluída")
+        UUID companyId,
+        @Schema(description = "Situação da exclusão", example = "RUNNING")
+        DeletionStatus status,
+        @Schema(description = "Colaboradores da empresa no início da exclusão", example = "50000")
+        long totalEmployees,
+        @Schema(description = "Colaboradores já excluídos", example = "15000")
+        long deletedEmployees,
+        @Schema(description = "Motivo da falha, quando houver")
+        String error
+) {
+}
@@ -0,0 +1,7 @@
+package com.santanna.kronos.application.dto.company;
+
+public enum DeletionStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
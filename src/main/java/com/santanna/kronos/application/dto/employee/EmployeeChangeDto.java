@@ -0,0 +1,16 @@
+package com.santanna.kronos.application.dto.employee;
+
+import com.santanna.kronos.domain.model.ChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+public record EmployeeChangeDto(
+        @Schema(description = "Tipo da alteração desde o token informado", example = "UPDATED")
+        ChangeType type,
+        @Schema(description = "Identificador único do colaborador")
+        UUID id,
+        @Schema(description = "Estado atual do colaborador; ausente em DELETED")
+        EmployeeResponseDto employee
+) {
+}
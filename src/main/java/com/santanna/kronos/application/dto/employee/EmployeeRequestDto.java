@@ -30,6 +30,7 @@ public record EmployeeRequestDto(
         @Schema(description = "Sálario do colaborador", example = "1200")
         @NotNull(message = "Salary " + NOT_BLANK)
         @Positive(message = MUST_BE_POSITIVE)
+        @Digits(integer = 13, fraction = 2, message = MONEY_FORMAT)
         Double salary,
 
         @Schema(description = "Cargo do colaborador", example = "Engenheiro")
@@ -45,4 +46,5 @@ public record EmployeeRequestDto(
     public static final String CHARACTER_SIZE = "Deve conter exatamente 11 caractetes";
     public static final String CORRECT_FORMAT = "Deve estar no formato correto: email@provedor.com";
     public static final String MUST_BE_POSITIVE = "Deve conter valores positivos";
+    public static final String MONEY_FORMAT = "Deve ter no máximo 13 dígitos inteiros e 2 casas decimais";
 }
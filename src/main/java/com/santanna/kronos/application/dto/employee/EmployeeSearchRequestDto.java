@@ -0,0 +1,28 @@
+package com.santanna.kronos.application.dto.employee;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+public record EmployeeSearchRequestDto(
+        @Schema(description = "CNPJ da empresa", example = "1234567890112")
+        @Size(min = 13, max = 13, message = CHARACTER_SIZE)
+        String cnpj,
+        @Schema(description = "Cargo exato", example = "Engenheiro")
+        String position,
+        @Schema(description = "Salário mínimo (inclusivo)", example = "1000")
+        @PositiveOrZero(message = MUST_BE_POSITIVE)
+        Double minSalary,
+        @Schema(description = "Salário máximo (inclusivo)", example = "5000")
+        @PositiveOrZero(message = MUST_BE_POSITIVE)
+        Double maxSalary,
+        @Schema(description = "Início do primeiro nome", example = "Jo")
+        @Size(min = 1, max = 100)
+        String name,
+        @Schema(description = "Ordenação: name, salary ou position, opcionalmente seguido de ,asc ou ,desc",
+                example = "salary,desc")
+        String sort
+) {
+        public static final String CHARACTER_SIZE = "Deve conter exatamente 13 caractetes";
+        public static final String MUST_BE_POSITIVE = "Deve conter valores positivos";
+}
@@ -0,0 +1,13 @@
+package com.santanna.kronos.application.dto.employee;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ImportErrorDto(
+        @Schema(description = "Posição do registro no arquivo, começando em 1", example = "42")
+        long row,
+        @Schema(description = "CPF informado no registro", example = "12345678901")
+        String cpf,
+        @Schema(description = "Motivo da rejeição", example = "Colaborador/CPF já cadastrado no sistema")
+        String message
+) {
+}
@@ -0,0 +1,15 @@
+package com.santanna.kronos.application.dto.employee;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record ImportResultDto(
+        @Schema(description = "Quantidade de registros recebidos", example = "100000")
+        long received,
+        @Schema(description = "Quantidade de colaboradores cadastrados", example = "99998")
+        long imported,
+        @Schema(description = "Registros rejeitados e o motivo, até os 1000 primeiros")
+        List<ImportErrorDto> errors
+) {
+}
@@ -1,6 +1,7 @@
 package com.santanna.kronos.application.dto.employee;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
@@ -18,12 +19,14 @@ public record UpdateRequestDto(
         @Email(message = CORRECT_FORMAT)
         String email,
         @Schema(description = "Sálario do colaborador", example = "1200")
+        @Positive(message = MUST_BE_POSITIVE)
+        @Digits(integer = 13, fraction = 2, message = MONEY_FORMAT)
         Double salary,
         @Schema(description = "Cargo do colaborador", example = "Engenheiro")
-        @Positive(message = MUST_BE_POSITIVE)
         String position
 ) {
         public static final String CHARACTER_SIZE = "Deve conter exatamente 11 caractetes";
         public static final String CORRECT_FORMAT = "Deve estar no formato correto: email@provedor.com";
         public static final String MUST_BE_POSITIVE = "Deve conter valores positivos";
+        public static final String MONEY_FORMAT = "Deve ter no máximo 13 dígitos inteiros e 2 casas decimais";
 }
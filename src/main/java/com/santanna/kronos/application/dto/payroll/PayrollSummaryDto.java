@@ -0,0 +1,31 @@
+package com.santanna.kronos.application.dto.payroll;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+public record PayrollSummaryDto(
+        @Schema(description = "Identificador único da empresa")
+        UUID companyId,
+        @Schema(description = "CNPJ da empresa (ausente nos resumos por cargo)", example = "1234567890123")
+        String cnpj,
+        @Schema(description = "Nome da empresa (ausente nos resumos por cargo)", example = "Minha Empresa")
+        String nameCompany,
+        @Schema(description = "Cargo (ausente no resumo da empresa)", example = "Engenheiro")
+        String position,
+        @Schema(description = "Quantidade de colaboradores", example = "10")
+        long headcount,
+        @Schema(description = "Soma dos salários", example = "35000")
+        Double totalSalary,
+        @Schema(description = "Média dos salários", example = "3500")
+        Double averageSalary,
+        @Schema(description = "Menor salário", example = "1200")
+        Double minSalary,
+        @Schema(description = "Maior salário", example = "9000")
+        Double maxSalary,
+        @Schema(description = "Mediana (percentil 50, nearest-rank)", example = "3000")
+        Double medianSalary,
+        @Schema(description = "Percentil 90 (nearest-rank)", example = "8000")
+        Double p90Salary
+) {
+}
@@ -0,0 +1,134 @@
+package com.santanna.kronos.application.usecase;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.santanna.kronos.application.dto.company.DeletionJobDto;
+import com.santanna.kronos.application.dto.company.DeletionStatus;
+import com.santanna.kronos.application.exception.NotFoundException;
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
+import com.santanna.kronos.domain.repository.CompanyRepository;
+import com.santanna.kronos.domain.repository.OutboxRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+public class CompanyDeletionUseCase {
+    public static final String COMPANY_NOT_FOUND_404 = "Empresa não encontrada";
+    public static final String DELETION_NOT_FOUND_404 = "Exclusão não encontrada";
+
+    private final CompanyRepository companyRepo;
+    private final OutboxRepository outboxRepo;
+    private final PayrollUseCase payrollUseCase;
+    private final TransactionOperations transactions;
+    private final TaskExecutor taskExecutor;
+    private final int chunkSize;
+    // Exclusões concluídas ficam consultáveis por uma hora após a última atualização
+    private final Cache<UUID, DeletionJob> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public CompanyDeletionUseCase(CompanyRepository companyRepo, OutboxRepository outboxRepo,
+                                  PayrollUseCase payrollUseCase, TransactionOperations transactions,
+                                  @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                  @Value("${kronos.company.delete.chunk-size:5000}") int chunkSize) {
+        this.companyRepo = companyRepo;
+        this.outboxRepo = outboxRepo;
+        this.payrollUseCase = payrollUseCase;
+        this.transactions = transactions;
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    // Exclui os colaboradores em blocos de chunkSize, cada um na sua transação, e por fim a empresa;
+    // uma nova solicitação para a mesma empresa devolve a exclusão que já está em andamento
+    public DeletionJobDto startDeletion(UUID companyId) {
+        if (!companyRepo.existsCompany(companyId)) {
+            throw new NotFoundException(COMPANY_NOT_FOUND_404);
+        }
+        synchronized (jobs) {
+            var running = jobs.asMap().values().stream()
+                    .filter(job -> job.companyId.equals(companyId) && job.status == DeletionStatus.RUNNING)
+                    .findFirst();
+            if (running.isPresent()) {
+                return running.get().toDto();
+            }
+            var job = new DeletionJob(companyId, companyRepo.countEmployees(companyId));
+            jobs.put(job.id, job);
+            taskExecutor.execute(() -> run(job));
+            return job.toDto();
+        }
+    }
+
+    public DeletionJobDto findDeletion(UUID jobId) {
+        var job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new NotFoundException(DELETION_NOT_FOUND_404);
+        }
+        return job.toDto();
+    }
+
+    private void run(DeletionJob job) {
+        try {
+            int deleted;
+            do {
+                // Cada bloco grava os eventos dos seus colaboradores e marca a folha da empresa, que continua
+                // consultável enquanto a exclusão anda
+                deleted = transactions.execute(status -> {
+                    var employeeIds = companyRepo.deleteEmployees(job.companyId, chunkSize);
+                    if (!employeeIds.isEmpty()) {
+                        outboxRepo.appendAll(employeeDeleted(employeeIds));
+                        payrollUseCase.companyChanged(job.companyId);
+                    }
+                    return employeeIds.size();
+                });
+                job.deleted.addAndGet(deleted);
+                jobs.put(job.id, job);
+            } while (deleted == chunkSize);
+            // A empresa e o seu evento na mesma transação, com os colaboradores gravados depois do último bloco
+            transactions.executeWithoutResult(status -> {
+                outboxRepo.appendAll(employeeDeleted(companyRepo.deleteCompany(job.companyId)));
+                outboxRepo.append(ChangeEvent.of(AggregateType.COMPANY, job.companyId, ChangeType.DELETED));
+            });
+            job.status = DeletionStatus.COMPLETED;
+        } catch (RuntimeException ex) {
+            job.error = ex.getMessage();
+            job.status = DeletionStatus.FAILED;
+        }
+        jobs.put(job.id, job);
+    }
+
+    private static List<ChangeEvent> employeeDeleted(List<UUID> employeeIds) {
+        return employeeIds.stream()
+                .map(id -> ChangeEvent.of(AggregateType.EMPLOYEE, id, ChangeType.DELETED))
+                .collect(Collectors.toList());
+    }
+
+    private static final class DeletionJob {
+        private final UUID id = UUID.randomUUID();
+        private final UUID companyId;
+        private final long total;
+        private final AtomicLong deleted = new AtomicLong();
+        private volatile DeletionStatus status = DeletionStatus.RUNNING;
+        private volatile String error;
+
+        private DeletionJob(UUID companyId, long total) {
+            this.companyId = companyId;
+            this.total = total;
+        }
+
+        private DeletionJobDto toDto() {
+            return new DeletionJobDto(id, companyId, status, total, deleted.get(), error);
+        }
+    }
+}
@@ -1,70 +1,126 @@
 package com.santanna.kronos.application.usecase;
 
+import com.santanna.kronos.application.dto.Versioned;
 import com.santanna.kronos.application.dto.company.CompanyRequestDto;
 import com.santanna.kronos.application.dto.company.CompanyResponseDto;
 import com.santanna.kronos.application.dto.company.UpdateCompanyRequestDto;
 import com.santanna.kronos.application.exception.BadRequestException;
 import com.santanna.kronos.application.exception.NotFoundException;
 import com.santanna.kronos.application.utils.ConverterDto;
+import com.santanna.kronos.application.utils.ETags;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.domain.exception.DuplicatedEntryException;
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
 import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.model.CompanyPatch;
 import com.santanna.kronos.domain.repository.CompanyRepository;
-import jakarta.transaction.Transactional;
+import com.santanna.kronos.domain.repository.OutboxRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("kronos.usecase")
 public class CompanyUseCase {
     public static final String COMPANY_NOT_FOUND_404 = "Empresa não encontrada";
     public static final String COMPANY_ALREADY_EXIST_400 = "Empresa/CNPJ já cadastrado no sistema";
 
     private final CompanyRepository companyRepo;
+    private final OutboxRepository outboxRepo;
 
-    public CompanyUseCase(CompanyRepository companyRepo) {
+    public CompanyUseCase(CompanyRepository companyRepo, OutboxRepository outboxRepo) {
         this.companyRepo = companyRepo;
+        this.outboxRepo = outboxRepo;
     }
 
-    public CompanyResponseDto findCompanyById(UUID id) {
-        var company = companyRepo.findCompany(id)
+    // Transações somente leitura: com réplicas configuradas, estas consultas saem delas (DataSourceConfig)
+    @Transactional(readOnly = true)
+    public Versioned<CompanyResponseDto> findCompanyById(UUID id) {
+        var company = companyRepo.findCompanySummary(id)
                 .orElseThrow(() -> new NotFoundException(COMPANY_NOT_FOUND_404));
-        return ConverterDto.toDto(company);
+        return new Versioned<>(ConverterDto.toDto(company), ETags.of(company));
     }
 
-    public PaginatedList<CompanyResponseDto> findAllCompanies(int page, int size) {
+    // Só versão e total de colaboradores: o If-None-Match é conferido sem ler nome e CNPJ
+    @Transactional(readOnly = true)
+    public Optional<String> findCompanyETag(UUID id) {
+        return companyRepo.findCompanyVersion(id).map(ETags::of);
+    }
+
+    @Transactional(readOnly = true)
+    public Versioned<PaginatedList<CompanyResponseDto>> findAllCompanies(int page, int size) {
         var companies = companyRepo.findAllCompanies(page, size);
-        return new PaginatedList<>(
+        // Os DTOs são criados durante a serialização, direto no stream da resposta
+        PaginatedList<CompanyResponseDto> response = companies.map(ConverterDto::toDto);
+        return new Versioned<>(response, ETags.ofCompanies(companies.getContent(),
+                companies.getPageNumber(), companies.getPageSize(), companies.getTotalElements()));
+    }
+
+    @Transactional(readOnly = true)
+    public Versioned<CursorPage<CompanyResponseDto>> findCompaniesAfter(String after, int size, boolean withTotal) {
+        var companies = companyRepo.findCompaniesAfter(CursorPage.decodeKey(after), size, withTotal);
+        var response = new CursorPage<>(
                 companies.getContent().stream().map(ConverterDto::toDto)
                         .collect(Collectors.toList()),
-                companies.getPageNumber(),
+                companies.getNextCursor(),
                 companies.getPageSize(),
                 companies.getTotalElements()
         );
+        return new Versioned<>(response, ETags.ofCompanies(companies.getContent(), companies.getPageSize(),
+                companies.getTotalElements() != null ? companies.getTotalElements() : -1,
+                companies.getNextCursor() != null ? 1 : 0));
     }
 
     @Transactional
     public void addCompany(CompanyRequestDto companyDto) {
-        var cnpj = companyRepo.findCnpj(companyDto.cnpj());
-        if (cnpj.isPresent()) throw new BadRequestException(COMPANY_ALREADY_EXIST_400);
         var newCompany = creatingCompany(companyDto);
-        companyRepo.saveCompany(newCompany);
+        var id = saveCompany(newCompany);
+        outboxRepo.append(ChangeEvent.of(AggregateType.COMPANY, id, ChangeType.CREATED));
     }
 
     @Transactional
     public void updateCompany(UUID id, UpdateCompanyRequestDto companyDto) {
-        var idTarget = companyRepo.findCompany(id)
-                .orElseThrow(() -> new NotFoundException(COMPANY_NOT_FOUND_404));
-        updatingCompany(companyDto, idTarget);
-        companyRepo.saveCompany(idTarget);
+        // Renomear não carrega os colaboradores: um único UPDATE apenas com as colunas enviadas
+        var patch = updatingCompany(companyDto);
+        boolean updated;
+        try {
+            updated = companyRepo.patchCompany(id, patch);
+        } catch (DuplicatedEntryException ex) {
+            throw new BadRequestException(COMPANY_ALREADY_EXIST_400);
+        }
+        if (!updated) {
+            throw new NotFoundException(COMPANY_NOT_FOUND_404);
+        }
+        outboxRepo.append(ChangeEvent.of(AggregateType.COMPANY, id, ChangeType.UPDATED, patch.changedFields()));
     }
 
     @Transactional
     public void deleteCompany(UUID id) {
-        var idTarget = companyRepo.findCompany(id)
-                .orElseThrow(() -> new NotFoundException(COMPANY_NOT_FOUND_404));
-        companyRepo.deleteCompany(idTarget.getId());
+        if (!companyRepo.existsCompany(id)) {
+            throw new NotFoundException(COMPANY_NOT_FOUND_404);
+        }
+        // Cada colaborador excluído tem o seu evento, como na exclusão individual; os resumos de folha da empresa
+        // saem junto com ela (ON DELETE CASCADE)
+        var employeeIds = companyRepo.deleteCompany(id);
+        outboxRepo.appendAll(employeeIds.stream()
+                .map(employeeId -> ChangeEvent.of(AggregateType.EMPLOYEE, employeeId, ChangeType.DELETED))
+                .collect(Collectors.toList()));
+        outboxRepo.append(ChangeEvent.of(AggregateType.COMPANY, id, ChangeType.DELETED));
+    }
+
+    private UUID saveCompany(Company company) {
+        try {
+            return companyRepo.saveCompany(company);
+        } catch (DuplicatedEntryException ex) {
+            throw new BadRequestException(COMPANY_ALREADY_EXIST_400);
+        }
     }
 
     private static Company creatingCompany(CompanyRequestDto companyDto) {
@@ -73,8 +129,10 @@ public class CompanyUseCase {
                 .cnpj(companyDto.cnpj())
                 .build();
     }
-    private static void updatingCompany(UpdateCompanyRequestDto companyDto, Company idTarget) {
-        Optional.ofNullable(companyDto.cnpj()).ifPresent(idTarget::setCnpj);
-        Optional.ofNullable(companyDto.nameCompany()).ifPresent(idTarget::setNameCompany);
+    private static CompanyPatch updatingCompany(UpdateCompanyRequestDto companyDto) {
+        return CompanyPatch.builder()
+                .cnpj(companyDto.cnpj())
+                .nameCompany(companyDto.nameCompany())
+                .build();
     }
 }
@@ -0,0 +1,76 @@
+package com.santanna.kronos.application.usecase;
+
+import com.santanna.kronos.application.dto.employee.EmployeeChangeDto;
+import com.santanna.kronos.application.exception.BadRequestException;
+import com.santanna.kronos.application.utils.ConverterDto;
+import com.santanna.kronos.domain.common.ChangeFeed;
+import com.santanna.kronos.domain.common.ChangeSequence;
+import com.santanna.kronos.domain.common.ChangeToken;
+import com.santanna.kronos.domain.common.CursorPage;
+import com.santanna.kronos.domain.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("kronos.usecase")
+public class EmployeeChangeFeedUseCase {
+    public static final String TOKEN_EXPIRED_400 = "Token expirado: refaça a sincronização completa sem o parâmetro since";
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final EmployeeRepository employeeRepo;
+    private final Duration settle;
+    private final Duration tombstoneRetention;
+
+    public EmployeeChangeFeedUseCase(EmployeeRepository employeeRepo,
+                                     @Value("${kronos.changes.settle:PT5S}") Duration settle,
+                                     @Value("${kronos.changes.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.employeeRepo = employeeRepo;
+        this.settle = settle;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // Só entram alterações com mais de settle de idade: a sequência é atribuída antes do commit e uma transação
+    // ainda aberta não pode ficar para trás de um token já entregue
+    public ChangeFeed<EmployeeChangeDto> getChanges(String since, int size) {
+        int batchSize = Math.min(size, MAX_BATCH_SIZE);
+        CursorPage.checkPageSize(batchSize);
+        var token = ChangeToken.decode(since);
+        var now = Instant.now();
+        if (token != null && token.syncedAt() < ChangeSequence.of(now.minus(tombstoneRetention))) {
+            throw new BadRequestException(TOKEN_EXPIRED_400);
+        }
+        long upTo = ChangeSequence.of(now.minus(settle));
+
+        // Um item a mais indica que há outro lote
+        var changes = employeeRepo.findEmployeeChanges(token, upTo, batchSize + 1);
+        boolean hasMore = changes.size() > batchSize;
+        var content = changes.stream().limit(batchSize).collect(Collectors.toList());
+
+        ChangeToken next;
+        if (hasMore) {
+            var last = content.get(content.size() - 1);
+            next = new ChangeToken(last.getSequence(), last.getIdEmployee(), token != null ? token.syncedAt() : upTo);
+        } else {
+            // Em dia até upTo: o token avança mesmo sem alterações e não expira enquanto o cliente sincroniza
+            next = token != null && token.sequence() > upTo ? token : ChangeToken.caughtUp(upTo);
+        }
+        return new ChangeFeed<>(
+                content.stream().map(ConverterDto::toDto).collect(Collectors.toList()),
+                next.encode(),
+                hasMore
+        );
+    }
+
+    // Lápides mais antigas que a retenção saem; tokens anteriores a elas são recusados em getChanges
+    @Scheduled(fixedDelayString = "${kronos.changes.purge-interval:PT1H}",
+            initialDelayString = "${kronos.changes.purge-interval:PT1H}")
+    public int purgeTombstones() {
+        return employeeRepo.purgeTombstones(ChangeSequence.of(Instant.now().minus(tombstoneRetention)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.santanna.kronos.application.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.application.dto.employee.ExportFormat;
+import com.santanna.kronos.application.utils.ConverterDto;
+import com.santanna.kronos.application.utils.EmployeeExportWriter;
+import com.santanna.kronos.domain.repository.EmployeeRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@Service
+public class EmployeeExportUseCase {
+
+    private final EmployeeRepository employeeRepo;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeExportUseCase(EmployeeRepository employeeRepo, ObjectMapper objectMapper) {
+        this.employeeRepo = employeeRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    // A transação mantém o cursor do banco aberto enquanto as linhas são escritas na resposta
+    @Transactional
+    public void exportEmployees(String cnpj, ExportFormat format, OutputStream out) throws IOException {
+        try (var writer = EmployeeExportWriter.open(format, out, objectMapper)) {
+            employeeRepo.streamEmployees(cnpj, employee -> {
+                try {
+                    writer.write(ConverterDto.toDto(employee));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.santanna.kronos.application.usecase;
+
+import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
+import com.santanna.kronos.application.dto.employee.ImportErrorDto;
+import com.santanna.kronos.application.dto.employee.ImportResultDto;
+import com.santanna.kronos.domain.common.Money;
+import com.santanna.kronos.domain.exception.DuplicatedEntryException;
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
+import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.model.Employee;
+import com.santanna.kronos.domain.repository.CompanyRepository;
+import com.santanna.kronos.domain.repository.EmployeeRepository;
+import com.santanna.kronos.domain.repository.OutboxRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class EmployeeImportUseCase {
+    public static final String EMPLOYEE_ALREADY_EXIST_400 = "Colaborador/CPF já cadastrado no sistema";
+    public static final String DUPLICATED_IN_FILE_400 = "CPF repetido no arquivo";
+    public static final String COMPANY_NOT_FOUND_404 = "Empresa não encontrada";
+    // Um arquivo inteiro rejeitado não vira uma resposta do tamanho do arquivo: o total de rejeitados é
+    // received - imported
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EmployeeRepository employeeRepo;
+    private final CompanyRepository companyRepo;
+    private final PayrollUseCase payrollUseCase;
+    private final OutboxRepository outboxRepo;
+    private final TransactionOperations transactions;
+    private final Validator validator;
+    private final int batchSize;
+
+    public EmployeeImportUseCase(EmployeeRepository employeeRepo, CompanyRepository companyRepo,
+                                 PayrollUseCase payrollUseCase, OutboxRepository outboxRepo,
+                                 TransactionOperations transactions, Validator validator,
+                                 @Value("${kronos.employee.import.batch-size:1000}") int batchSize) {
+        this.employeeRepo = employeeRepo;
+        this.companyRepo = companyRepo;
+        this.payrollUseCase = payrollUseCase;
+        this.outboxRepo = outboxRepo;
+        this.transactions = transactions;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    // Os registros são consumidos em blocos de batchSize: cada bloco é validado com consultas por conjunto
+    // (CPF e CNPJ) e gravado na sua própria transação, então os blocos anteriores permanecem gravados
+    public ImportResultDto importEmployees(Iterator<EmployeeRequestDto> rows) {
+        List<ImportErrorDto> errors = new ArrayList<>();
+        Set<String> cpfsInFile = new HashSet<>();
+        List<EmployeeRequestDto> chunk = new ArrayList<>(batchSize);
+        long received = 0;
+        long imported = 0;
+
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            received++;
+            if (chunk.size() == batchSize || !rows.hasNext()) {
+                imported += importChunk(chunk, received - chunk.size(), cpfsInFile, errors);
+                chunk.clear();
+            }
+        }
+        return new ImportResultDto(received, imported, errors);
+    }
+
+    private int importChunk(List<EmployeeRequestDto> chunk, long firstRow, Set<String> cpfsInFile,
+                            List<ImportErrorDto> errors) {
+        List<EmployeeRequestDto> valid = new ArrayList<>(chunk.size());
+        List<Long> validRows = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            var dto = chunk.get(i);
+            var row = firstRow + i + 1;
+            var violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                reject(errors, row, dto.cpf(), violations.stream()
+                        .map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; ")));
+            } else if (!cpfsInFile.add(dto.cpf())) {
+                reject(errors, row, dto.cpf(), DUPLICATED_IN_FILE_400);
+            } else {
+                valid.add(dto);
+                validRows.add(row);
+            }
+        }
+        if (valid.isEmpty()) return 0;
+
+        var existingCpfs = employeeRepo.findExistingCpfs(valid.stream().map(EmployeeRequestDto::cpf).toList());
+        var companyIds = companyRepo.findCompanyIdsByCnpj(valid.stream().map(EmployeeRequestDto::cnpj)
+                .collect(Collectors.toSet()));
+
+        List<Employee> newEmployees = new ArrayList<>(valid.size());
+        List<Long> newRows = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            var dto = valid.get(i);
+            var companyId = companyIds.get(dto.cnpj());
+            if (existingCpfs.contains(dto.cpf())) {
+                reject(errors, validRows.get(i), dto.cpf(), EMPLOYEE_ALREADY_EXIST_400);
+            } else if (companyId == null) {
+                reject(errors, validRows.get(i), dto.cpf(), COMPANY_NOT_FOUND_404);
+            } else {
+                newEmployees.add(creatingEmployee(dto, Company.builder().id(companyId).build()));
+                newRows.add(validRows.get(i));
+            }
+        }
+        if (newEmployees.isEmpty()) return 0;
+
+        try {
+            insertInTransaction(newEmployees);
+            return newEmployees.size();
+        } catch (DuplicatedEntryException ex) {
+            // Um CPF gravado por outra requisição depois da consulta acima: o bloco foi desfeito e é regravado
+            // linha a linha, para rejeitar só os repetidos
+            int imported = 0;
+            for (int i = 0; i < newEmployees.size(); i++) {
+                var employee = newEmployees.get(i);
+                try {
+                    insertInTransaction(List.of(employee));
+                    imported++;
+                } catch (DuplicatedEntryException duplicated) {
+                    reject(errors, newRows.get(i), employee.getCpf(), EMPLOYEE_ALREADY_EXIST_400);
+                }
+            }
+            return imported;
+        }
+    }
+
+    // Colaboradores, eventos e marcações da folha na mesma transação
+    private void insertInTransaction(List<Employee> employees) {
+        transactions.executeWithoutResult(status -> {
+            employeeRepo.insertEmployees(employees);
+            outboxRepo.appendAll(employees.stream()
+                    .map(e -> ChangeEvent.of(AggregateType.EMPLOYEE, e.getIdEmployee(), ChangeType.CREATED))
+                    .collect(Collectors.toList()));
+            payrollUseCase.companiesChanged(employees.stream().map(e -> e.getCompany().getId())
+                    .collect(Collectors.toSet()));
+        });
+    }
+
+    private static void reject(List<ImportErrorDto> errors, long row, String cpf, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportErrorDto(row, cpf, message));
+        }
+    }
+
+    private static Employee creatingEmployee(EmployeeRequestDto employeeRequestDto, Company company) {
+        return Employee.builder()
+                .name(employeeRequestDto.name())
+                .surname(employeeRequestDto.surname())
+                .email(employeeRequestDto.email())
+                .position(employeeRequestDto.position())
+                .salaryCents(Money.toCents(employeeRequestDto.salary()))
+                .cpf(employeeRequestDto.cpf())
+                .company(company)
+                .build();
+    }
+}
@@ -1,118 +1,246 @@
 package com.santanna.kronos.application.usecase;
 
+import com.santanna.kronos.application.dto.Versioned;
 import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
 import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.dto.employee.EmployeeSearchRequestDto;
 import com.santanna.kronos.application.dto.employee.UpdateRequestDto;
 import com.santanna.kronos.application.exception.BadRequestException;
 import com.santanna.kronos.application.exception.NotFoundException;
 import com.santanna.kronos.application.utils.ConverterDto;
+import com.santanna.kronos.application.utils.ETags;
+import com.santanna.kronos.domain.common.CursorPage;
+import com.santanna.kronos.domain.common.Money;
 import com.santanna.kronos.domain.common.PaginatedList;
-import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.exception.DuplicatedEntryException;
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
 import com.santanna.kronos.domain.model.Employee;
+import com.santanna.kronos.domain.model.EmployeeFilter;
+import com.santanna.kronos.domain.model.EmployeePatch;
+import com.santanna.kronos.domain.model.EmployeeSort;
 import com.santanna.kronos.domain.repository.CompanyRepository;
 import com.santanna.kronos.domain.repository.EmployeeRepository;
-import jakarta.transaction.Transactional;
+import com.santanna.kronos.domain.repository.OutboxRepository;
+import com.santanna.kronos.infrastructure.configuration.CacheConfig;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("kronos.usecase")
 public class EmployeeUseCase {
     public static final String EMPLOYEE_NOT_FOUND_404 = "Colaborador não encontrado";
     public static final String EMPLOYEE_ALREADY_EXIST_400 = "Colaborador/CPF já cadastrado no sistema";
     public static final String COMPANY_NOT_FOUND_404 = "Empresa não encontrada";
+    public static final String INVALID_SORT_400 = "Ordenação inválida";
+    public static final String INVALID_SALARY_RANGE_400 = "Faixa salarial inválida";
+    public static final String SEARCH_TOO_DEEP_400 = "Página além do limite da busca; refine os filtros";
 
     private final EmployeeRepository employeeRepo;
     private final CompanyRepository companyRepo;
+    private final PayrollUseCase payrollUseCase;
+    private final OutboxRepository outboxRepo;
 
-    public EmployeeUseCase(EmployeeRepository employeeRepo, CompanyRepository companyRepo) {
+    public EmployeeUseCase(EmployeeRepository employeeRepo, CompanyRepository companyRepo,
+                           PayrollUseCase payrollUseCase, OutboxRepository outboxRepo) {
         this.employeeRepo = employeeRepo;
         this.companyRepo = companyRepo;
+        this.payrollUseCase = payrollUseCase;
+        this.outboxRepo = outboxRepo;
     }
 
-    public EmployeeResponseDto getEmployeeById(UUID id) {
+    // Transações somente leitura: com réplicas configuradas, estas consultas saem delas (DataSourceConfig)
+    // O cache guarda a resposta (records imutáveis), nunca o Employee que o chamador pode alterar; as escritas
+    // em EmployeeImpl removem a entrada pelo id após o commit
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
+    public Versioned<EmployeeResponseDto> getEmployeeById(UUID id) {
         var employee = employeeRepo.findEmployee(id)
                 .orElseThrow(() -> new NotFoundException(EMPLOYEE_NOT_FOUND_404));
-        return ConverterDto.toDto(employee);
+        return new Versioned<>(ConverterDto.toDto(employee), ETags.of(employee));
     }
 
-    public PaginatedList<EmployeeResponseDto> getAllEmployees(int page, int size) {
-        var employees = employeeRepo.findAllEmployees(page, size);
-        return new PaginatedList<>(
-                employees.getContent().stream().map(ConverterDto::toDto).collect(Collectors.toList()),
-                employees.getPageNumber(),
-                employees.getPageSize(),
-                employees.getTotalElements()
-        );
+    // Só a versão: o If-None-Match é conferido sem ler nem converter o colaborador
+    @Transactional(readOnly = true)
+    public Optional<String> findEmployeeETag(UUID id) {
+        return employeeRepo.findEmployeeVersion(id).map(ETags::ofEmployeeVersion);
     }
 
-    @Transactional
-    public void addEmployee(EmployeeRequestDto addDto) {
-        var existingEmployee = employeeRepo.findCpf(addDto.cpf());
-        if (existingEmployee.isPresent()) throw new BadRequestException(EMPLOYEE_ALREADY_EXIST_400);
+    @Transactional(readOnly = true)
+    public Versioned<PaginatedList<EmployeeResponseDto>> getAllEmployees(int page, int size) {
+        return versioned(employeeRepo.findAllEmployees(page, size));
+    }
 
-        var existingCompany = companyRepo.findCnpj(addDto.cnpj());
-        if (existingCompany.isEmpty()) throw new BadRequestException(COMPANY_NOT_FOUND_404);
+    @Transactional(readOnly = true)
+    public Versioned<PaginatedList<EmployeeResponseDto>> searchEmployees(EmployeeSearchRequestDto searchDto, int page, int size) {
+        var filter = EmployeeFilter.builder()
+                .position(searchDto.position())
+                .minSalaryCents(searchDto.minSalary() != null ? Money.toCents(searchDto.minSalary()) : null)
+                .maxSalaryCents(searchDto.maxSalary() != null ? Money.toCents(searchDto.maxSalary()) : null)
+                .namePrefix(searchDto.name());
+        sortingBy(filter, searchDto.sort());
+        if (searchDto.minSalary() != null && searchDto.maxSalary() != null
+                && searchDto.minSalary() > searchDto.maxSalary()) {
+            throw new BadRequestException(INVALID_SALARY_RANGE_400);
+        }
+        // Páginas profundas custariam um OFFSET proporcional à posição; para percorrer tudo há o cursor
+        if ((long) page * size + size > EmployeeFilter.MAX_RESULTS) {
+            throw new BadRequestException(SEARCH_TOO_DEEP_400);
+        }
+        if (searchDto.cnpj() != null) {
+            // CNPJ desconhecido não tem colaboradores: página vazia sem consultar tb_employee
+            var companyId = companyRepo.findCompanyIdByCnpj(searchDto.cnpj());
+            if (companyId.isEmpty()) {
+                return versioned(new PaginatedList<Employee>(List.of(), page, size, 0));
+            }
+            filter.companyId(companyId.get());
+        }
 
-        var company = existingCompany.get();
+        return versioned(employeeRepo.searchEmployees(filter.build(), page, size));
+    }
 
-        var newEmployee = creatingEmployee(addDto, company);
-        if (company.getEmployees() == null) company.setEmployees(new ArrayList<>());
-        company.getEmployees().add(newEmployee);
-        companyRepo.saveCompany(company);
+    @Transactional(readOnly = true)
+    public Versioned<CursorPage<EmployeeResponseDto>> getEmployeesAfter(String after, int size, boolean withTotal) {
+        return versioned(employeeRepo.findEmployeesAfter(CursorPage.decodeKey(after), size, withTotal));
+    }
+
+    @Transactional(readOnly = true)
+    public Versioned<CursorPage<EmployeeResponseDto>> getCompanyEmployeesAfter(UUID companyId, String after, int size,
+                                                                                boolean withTotal) {
+        var employees = employeeRepo.findCompanyEmployeesAfter(companyId, CursorPage.decodeKey(after), size, withTotal);
+        // Página vazia pode ser empresa inexistente: só então consulta tb_company
+        if (employees.getContent().isEmpty() && !companyRepo.existsCompany(companyId)) {
+            throw new NotFoundException(COMPANY_NOT_FOUND_404);
+        }
+        return versioned(employees);
+    }
+
+    @Transactional
+    public void addEmployee(EmployeeRequestDto addDto) {
+        var companyId = companyRepo.findCompanyIdByCnpj(addDto.cnpj())
+                .orElseThrow(() -> new BadRequestException(COMPANY_NOT_FOUND_404));
+
+        var newEmployee = creatingEmployee(addDto);
+        try {
+            employeeRepo.insertEmployee(newEmployee, companyId);
+        } catch (DuplicatedEntryException ex) {
+            throw new BadRequestException(EMPLOYEE_ALREADY_EXIST_400);
+        }
+        outboxRepo.append(ChangeEvent.of(AggregateType.EMPLOYEE, newEmployee.getIdEmployee(), ChangeType.CREATED));
+        payrollUseCase.companyChanged(companyId);
     }
 
     @Transactional
     public void updateEmployee(UUID id, UpdateRequestDto updateDto) {
-        var idTarget = employeeRepo.findEmployee(id)
-                .orElseThrow(() -> new NotFoundException(EMPLOYEE_NOT_FOUND_404));
-        if (updateDto.cpf() != null && !updateDto.cpf().equals(idTarget.getCpf())) {
-            var existingEmployee = employeeRepo.findCpf(updateDto.cpf());
-            if (existingEmployee.isPresent()) throw new BadRequestException(EMPLOYEE_ALREADY_EXIST_400);
+        var patch = updatingEmployee(updateDto);
+        patchEmployee(id, patch);
+        outboxRepo.append(ChangeEvent.of(AggregateType.EMPLOYEE, id, ChangeType.UPDATED, patch.changedFields()));
+        if (patch.getSalaryCents() != null || patch.getPosition() != null) {
+            payrollUseCase.employeeChanged(id);
         }
-        updateEmployee(updateDto, idTarget);
-        employeeRepo.saveEmployee(idTarget);
     }
 
     @Transactional
     public void updtadeEmail(UUID id, UpdateRequestDto emailDto) {
-        var idTarget = employeeRepo.findEmployee(id)
-                .orElseThrow(() -> new NotFoundException(EMPLOYEE_NOT_FOUND_404));
-
-        Optional.ofNullable(emailDto.email()).ifPresent(idTarget::setEmail);
-
-        employeeRepo.saveEmployee(idTarget);
+        var patch = EmployeePatch.builder().email(emailDto.email()).build();
+        patchEmployee(id, patch);
+        outboxRepo.append(ChangeEvent.of(AggregateType.EMPLOYEE, id, ChangeType.UPDATED, patch.changedFields()));
     }
 
     @Transactional
     public void deleteEmployee(UUID id) {
-        var idTarget = employeeRepo.findEmployee(id)
+        // A empresa é lida antes: depois do DELETE não há como saber qual resumo de folha recalcular
+        var companyId = employeeRepo.findCompanyId(id)
                 .orElseThrow(() -> new NotFoundException(EMPLOYEE_NOT_FOUND_404));
 
-        employeeRepo.deleteEmployee(idTarget.getIdEmployee());
+        employeeRepo.deleteEmployee(id);
+        outboxRepo.append(ChangeEvent.of(AggregateType.EMPLOYEE, id, ChangeType.DELETED));
+        payrollUseCase.companyChanged(companyId);
+    }
+
+    // Um único UPDATE apenas com as colunas enviadas; nenhuma linha é lida antes
+    private void patchEmployee(UUID id, EmployeePatch patch) {
+        boolean updated;
+        try {
+            updated = employeeRepo.patchEmployee(id, patch);
+        } catch (DuplicatedEntryException ex) {
+            throw new BadRequestException(EMPLOYEE_ALREADY_EXIST_400);
+        }
+        if (!updated) {
+            throw new NotFoundException(EMPLOYEE_NOT_FOUND_404);
+        }
     }
 
-    private static void updateEmployee(UpdateRequestDto updateDto, Employee idTarget) {
-        Optional.ofNullable(updateDto.email()).ifPresent(idTarget::setEmail);
-        Optional.ofNullable(updateDto.name()).ifPresent(idTarget::setName);
-        Optional.ofNullable(updateDto.surname()).ifPresent(idTarget::setSurname);
-        Optional.ofNullable(updateDto.position()).ifPresent(idTarget::setPosition);
-        Optional.ofNullable(updateDto.salary()).ifPresent(idTarget::setSalary);
-        Optional.ofNullable(updateDto.cpf()).ifPresent(idTarget::setCpf);
+    // O ETag da página sai das versões dos colaboradores e dos metadados que a resposta expõe
+    private static Versioned<PaginatedList<EmployeeResponseDto>> versioned(PaginatedList<Employee> employees) {
+        PaginatedList<EmployeeResponseDto> page = employees.map(ConverterDto::toDto);
+        return new Versioned<>(page, ETags.ofEmployees(employees.getContent(),
+                employees.getPageNumber(), employees.getPageSize(), employees.getTotalElements()));
+    }
+
+    private static Versioned<CursorPage<EmployeeResponseDto>> versioned(CursorPage<Employee> employees) {
+        var page = new CursorPage<>(
+                employees.getContent().stream().map(ConverterDto::toDto).collect(Collectors.toList()),
+                employees.getNextCursor(),
+                employees.getPageSize(),
+                employees.getTotalElements()
+        );
+        return new Versioned<>(page, ETags.ofEmployees(employees.getContent(), employees.getPageSize(),
+                employees.getTotalElements() != null ? employees.getTotalElements() : -1,
+                employees.getNextCursor() != null ? 1 : 0));
+    }
+
+    // Formato "campo" ou "campo,asc|desc", como o parâmetro sort do Spring Data
+    private static void sortingBy(EmployeeFilter.EmployeeFilterBuilder filter, String sort) {
+        if (sort == null || sort.isBlank()) {
+            return;
+        }
+        var parts = sort.split(",");
+        if (parts.length > 2) {
+            throw new BadRequestException(INVALID_SORT_400);
+        }
+        try {
+            filter.sort(EmployeeSort.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(INVALID_SORT_400);
+        }
+        if (parts.length == 2) {
+            switch (parts[1].trim().toLowerCase(Locale.ROOT)) {
+                case "asc" -> filter.descending(false);
+                case "desc" -> filter.descending(true);
+                default -> throw new BadRequestException(INVALID_SORT_400);
+            }
+        }
+    }
+
+    private static EmployeePatch updatingEmployee(UpdateRequestDto updateDto) {
+        return EmployeePatch.builder()
+                .cpf(updateDto.cpf())
+                .name(updateDto.name())
+                .surname(updateDto.surname())
+                .email(updateDto.email())
+                .salaryCents(updateDto.salary() != null ? Money.toCents(updateDto.salary()) : null)
+                .position(updateDto.position())
+                .build();
     }
 
-    private static Employee creatingEmployee(EmployeeRequestDto employeeRequestDto, Company company) {
+    private static Employee creatingEmployee(EmployeeRequestDto employeeRequestDto) {
         return Employee.builder()
                 .name(employeeRequestDto.name())
                 .surname(employeeRequestDto.surname())
                 .email(employeeRequestDto.email())
                 .position(employeeRequestDto.position())
-                .salary(employeeRequestDto.salary())
+                .salaryCents(Money.toCents(employeeRequestDto.salary()))
                 .cpf(employeeRequestDto.cpf())
-                .company(company)
                 .build();
     }
 }
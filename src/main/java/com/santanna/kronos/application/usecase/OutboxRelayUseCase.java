@@ -0,0 +1,67 @@
+package com.santanna.kronos.application.usecase;
+
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.repository.ChangeEventSink;
+import com.santanna.kronos.domain.repository.OutboxRepository;
+import com.santanna.kronos.infrastructure.configuration.MetricsConfig;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Timed("kronos.usecase")
+public class OutboxRelayUseCase {
+    private final OutboxRepository outboxRepo;
+    private final ChangeEventSink sink;
+    private final int batchSize;
+    private final Timer relayLag;
+    private final Counter published;
+    private final AtomicLong pendingAgeMillis = new AtomicLong();
+
+    public OutboxRelayUseCase(OutboxRepository outboxRepo, ChangeEventSink sink, MeterRegistry registry,
+                              @Value("${kronos.outbox.batch-size:500}") int batchSize) {
+        this.outboxRepo = outboxRepo;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.relayLag = Timer.builder(MetricsConfig.OUTBOX_RELAY_LAG)
+                .description("Tempo entre a escrita e a publicação de cada evento")
+                .register(registry);
+        this.published = Counter.builder(MetricsConfig.OUTBOX_PUBLISHED)
+                .description("Eventos publicados pelo relay")
+                .register(registry);
+        TimeGauge.builder(MetricsConfig.OUTBOX_PENDING_AGE, pendingAgeMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Idade do evento pendente mais antigo no início da última execução do relay")
+                .register(registry);
+    }
+
+    // Publica lotes de batchSize na ordem do outbox até esvaziá-lo. Um lote que falha continua no outbox e
+    // bloqueia os seguintes: a ordem dos eventos de um mesmo registro nunca é invertida
+    @Scheduled(fixedDelayString = "${kronos.outbox.relay-interval:PT1S}",
+            initialDelayString = "${kronos.outbox.relay-interval:PT1S}")
+    public synchronized int relayPending() {
+        pendingAgeMillis.set(outboxRepo.findOldestPending()
+                .map(oldest -> Math.max(0, Duration.between(oldest, Instant.now()).toMillis()))
+                .orElse(0L));
+        int total = 0;
+        List<ChangeEvent> batch;
+        do {
+            batch = outboxRepo.publishPending(batchSize, sink::publish);
+            var now = Instant.now();
+            batch.forEach(event -> relayLag.record(Duration.between(event.getOccurredAt(), now)));
+            published.increment(batch.size());
+            total += batch.size();
+        } while (batch.size() == batchSize);
+        return total;
+    }
+}
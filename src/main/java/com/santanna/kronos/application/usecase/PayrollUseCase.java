@@ -0,0 +1,100 @@
+package com.santanna.kronos.application.usecase;
+
+import com.santanna.kronos.application.dto.payroll.PayrollSummaryDto;
+import com.santanna.kronos.application.exception.NotFoundException;
+import com.santanna.kronos.application.utils.ConverterDto;
+import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.domain.repository.PayrollRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("kronos.usecase")
+public class PayrollUseCase {
+    public static final String COMPANY_NOT_FOUND_404 = "Empresa não encontrada";
+
+    private final PayrollRepository payrollRepo;
+    private final int batchSize;
+
+    public PayrollUseCase(PayrollRepository payrollRepo,
+                          @Value("${kronos.payroll.refresh-batch-size:500}") int batchSize) {
+        this.payrollRepo = payrollRepo;
+        this.batchSize = batchSize;
+    }
+
+    // As consultas só leem os resumos, sem escrever nada (e saem da réplica, se houver): uma escrita aparece em todos
+    // os relatórios, listagem e detalhe igualmente, depois do recálculo agendado, até kronos.payroll.refresh-interval
+    @Transactional(readOnly = true)
+    public PaginatedList<PayrollSummaryDto> findCompanySummaries(int page, int size) {
+        var summaries = payrollRepo.findCompanySummaries(page, size);
+        return new PaginatedList<>(
+                summaries.getContent().stream().map(ConverterDto::toDto).collect(Collectors.toList()),
+                summaries.getPageNumber(),
+                summaries.getPageSize(),
+                summaries.getTotalElements()
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public PayrollSummaryDto findCompanySummary(UUID companyId) {
+        var summary = payrollRepo.findCompanySummary(companyId)
+                .orElseThrow(() -> new NotFoundException(COMPANY_NOT_FOUND_404));
+        return ConverterDto.toDto(summary);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PayrollSummaryDto> findPositionSummaries(UUID companyId) {
+        var summaries = payrollRepo.findPositionSummaries(companyId);
+        if (summaries.isEmpty() && payrollRepo.findCompanySummary(companyId).isEmpty()) {
+            throw new NotFoundException(COMPANY_NOT_FOUND_404);
+        }
+        return summaries.stream().map(ConverterDto::toDto).collect(Collectors.toList());
+    }
+
+    // As marcações vão na transação da escrita: confirmadas junto com ela e visíveis a todas as instâncias
+    public void companyChanged(UUID companyId) {
+        payrollRepo.markStale(List.of(companyId));
+    }
+
+    public void companiesChanged(Collection<UUID> companyIds) {
+        payrollRepo.markStale(companyIds);
+    }
+
+    // Alterações parciais não leem o colaborador: a empresa é resolvida no próprio comando de marcação
+    public void employeeChanged(UUID employeeId) {
+        payrollRepo.markStaleByEmployee(employeeId);
+    }
+
+    // Único ponto de recálculo. Cada empresa é recalculada por inteiro na própria transação, que apaga as marcações
+    // dela: os percentis não se atualizam incrementalmente, e várias escritas na mesma empresa entre duas rodadas
+    // custam um só recálculo. Uma empresa que falha continua
+    // marcada e não impede as demais; a primeira falha é relançada no fim
+    @Scheduled(fixedDelayString = "${kronos.payroll.refresh-interval:PT5S}",
+            initialDelayString = "${kronos.payroll.refresh-interval:PT5S}")
+    public int refreshPending() {
+        RuntimeException failure = null;
+        int refreshed = 0;
+        for (var companyId : payrollRepo.findStaleCompanies(batchSize)) {
+            try {
+                payrollRepo.refreshCompany(companyId);
+                refreshed++;
+            } catch (RuntimeException ex) {
+                if (failure == null) {
+                    failure = ex;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return refreshed;
+    }
+}
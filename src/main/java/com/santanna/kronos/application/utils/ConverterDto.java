@@ -1,9 +1,15 @@
 package com.santanna.kronos.application.utils;
 
 import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.application.dto.employee.EmployeeChangeDto;
 import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.dto.payroll.PayrollSummaryDto;
+import com.santanna.kronos.domain.common.Money;
 import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.model.CompanySummary;
 import com.santanna.kronos.domain.model.Employee;
+import com.santanna.kronos.domain.model.EmployeeChange;
+import com.santanna.kronos.domain.model.PayrollSummary;
 
 public class ConverterDto {
 
@@ -15,12 +21,20 @@ public class ConverterDto {
                 employee.getName(),
                 employee.getSurname(),
                 employee.getEmail(),
-                employee.getSalary(),
+                employee.getSalaryCents() != null ? Money.toDouble(employee.getSalaryCents()) : null,
                 employee.getPosition(),
                 companyName
         );
     }
 
+    public static EmployeeChangeDto toDto(EmployeeChange change) {
+        return new EmployeeChangeDto(
+                change.getType(),
+                change.getIdEmployee(),
+                change.getEmployee() != null ? toDto(change.getEmployee()) : null
+        );
+    }
+
     public static CompanyResponseDto toDto(Company company) {
         var count = company.getEmployees() != null ? company.getEmployees().size() : 0;
 
@@ -31,4 +45,31 @@ public class ConverterDto {
                 count
         );
     }
+
+    public static CompanyResponseDto toDto(CompanySummary company) {
+        return new CompanyResponseDto(
+                company.getId(),
+                company.getCnpj(),
+                company.getNameCompany(),
+                Math.toIntExact(company.getEmployeeCount())
+        );
+    }
+
+    // Sem colaboradores os valores de salário saem nulos
+    public static PayrollSummaryDto toDto(PayrollSummary summary) {
+        boolean empty = summary.getHeadcount() == 0;
+        return new PayrollSummaryDto(
+                summary.getCompanyId(),
+                summary.getCnpj(),
+                summary.getNameCompany(),
+                summary.getPosition(),
+                summary.getHeadcount(),
+                empty ? null : Money.toDouble(summary.getTotalSalaryCents()),
+                empty ? null : Money.toDouble(summary.getAverageSalaryCents()),
+                empty ? null : Money.toDouble(summary.getMinSalaryCents()),
+                empty ? null : Money.toDouble(summary.getMaxSalaryCents()),
+                empty ? null : Money.toDouble(summary.getMedianSalaryCents()),
+                empty ? null : Money.toDouble(summary.getP90SalaryCents())
+        );
+    }
 }
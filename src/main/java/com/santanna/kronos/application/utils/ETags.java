@@ -0,0 +1,73 @@
+package com.santanna.kronos.application.utils;
+
+import com.santanna.kronos.domain.model.CompanySummary;
+import com.santanna.kronos.domain.model.Employee;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+
+// ETags fortes a partir da sequência de modificação (change_seq) gravada em cada linha: o valor muda sempre que
+// a representação muda, sem serializar o corpo para compará-lo
+public final class ETags {
+    private static final int PAGE_TAG_BYTES = 16;
+
+    private ETags() {
+    }
+
+    public static String of(Employee employee) {
+        return ofEmployeeVersion(employee.getVersion());
+    }
+
+    public static String ofEmployeeVersion(long version) {
+        return quote(Long.toHexString(version));
+    }
+
+    // O total de colaboradores entra à parte: contratações e exclusões não alteram a linha da empresa
+    public static String of(CompanySummary company) {
+        return quote(Long.toHexString(company.getVersion()) + "-" + Long.toHexString(company.getEmployeeCount()));
+    }
+
+    // Páginas: hash do id e da versão de cada item, mais os metadados que aparecem na resposta
+    public static String ofEmployees(Collection<Employee> employees, long... metadata) {
+        var buffer = ByteBuffer.allocate(Long.BYTES * (metadata.length + employees.size() * 3));
+        for (long value : metadata) {
+            buffer.putLong(value);
+        }
+        for (Employee employee : employees) {
+            buffer.putLong(employee.getIdEmployee().getMostSignificantBits())
+                    .putLong(employee.getIdEmployee().getLeastSignificantBits())
+                    .putLong(employee.getVersion());
+        }
+        return quote(digest(buffer));
+    }
+
+    public static String ofCompanies(Collection<CompanySummary> companies, long... metadata) {
+        var buffer = ByteBuffer.allocate(Long.BYTES * (metadata.length + companies.size() * 4));
+        for (long value : metadata) {
+            buffer.putLong(value);
+        }
+        for (CompanySummary company : companies) {
+            buffer.putLong(company.getId().getMostSignificantBits())
+                    .putLong(company.getId().getLeastSignificantBits())
+                    .putLong(company.getVersion())
+                    .putLong(company.getEmployeeCount());
+        }
+        return quote(digest(buffer));
+    }
+
+    private static String digest(ByteBuffer buffer) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(buffer.array());
+            return HexFormat.of().formatHex(hash, 0, PAGE_TAG_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
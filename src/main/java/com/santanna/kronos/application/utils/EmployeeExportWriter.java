@@ -0,0 +1,90 @@
+package com.santanna.kronos.application.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.dto.employee.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// Escreve cada colaborador direto no stream de saída, sem acumular linhas em memória
+public abstract class EmployeeExportWriter implements Closeable {
+
+    public static EmployeeExportWriter open(ExportFormat format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(out, objectMapper);
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    public abstract void write(EmployeeResponseDto employee) throws IOException;
+
+    private static class NdjsonWriter extends EmployeeExportWriter {
+        private final SequenceWriter sequenceWriter;
+
+        NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.sequenceWriter = objectMapper.writerFor(EmployeeResponseDto.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out);
+        }
+
+        @Override
+        public void write(EmployeeResponseDto employee) throws IOException {
+            sequenceWriter.write(employee);
+        }
+
+        @Override
+        public void close() throws IOException {
+            sequenceWriter.close();
+        }
+    }
+
+    private static class CsvWriter extends EmployeeExportWriter {
+        private static final String HEADER = "id,cpf,name,surname,email,salary,position,nameCompany";
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(EmployeeResponseDto employee) throws IOException {
+            writer.write(String.valueOf(employee.id()));
+            writeField(employee.cpf());
+            writeField(employee.name());
+            writeField(employee.surname());
+            writeField(employee.email());
+            writeField(employee.salary() != null ? employee.salary().toString() : null);
+            writeField(employee.position());
+            writeField(employee.nameCompany());
+            writer.write('\n');
+        }
+
+        private void writeField(String value) throws IOException {
+            writer.write(',');
+            if (value == null) return;
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
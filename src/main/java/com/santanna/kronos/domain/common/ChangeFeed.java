@@ -0,0 +1,31 @@
+package com.santanna.kronos.domain.common;
+
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+public class ChangeFeed<T> {
+    private List<T> changes;
+    private String nextToken;
+    private boolean hasMore;
+
+    // nextToken sempre vem preenchido: o cliente guarda o último e retoma dele na próxima sincronização
+    public ChangeFeed(List<T> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    public List<T> getChanges() {
+        return changes;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
@@ -0,0 +1,23 @@
+package com.santanna.kronos.domain.common;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Sequência de modificação: microssegundos desde a época, estritamente crescente dentro da instância.
+// Entre instâncias a ordem segue o relógio; empates são desfeitos pelo id do registro
+public final class ChangeSequence {
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private ChangeSequence() {
+    }
+
+    public static long next() {
+        long candidate = of(Instant.now());
+        return LAST.updateAndGet(last -> candidate > last ? candidate : last + 1);
+    }
+
+    public static long of(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+}
@@ -0,0 +1,45 @@
+package com.santanna.kronos.domain.common;
+
+import com.santanna.kronos.domain.exception.DomainException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+// Posição no feed de alterações: a última (sequência, id) entregue e a sequência em que o cliente estava
+// completo em relação às exclusões. Se as lápides posteriores a esse ponto já foram expurgadas, o token expirou
+public record ChangeToken(long sequence, UUID id, long syncedAt) {
+    // Maior id possível: a sequência inteira já foi entregue
+    public static final UUID END_OF_SEQUENCE = new UUID(-1L, -1L);
+    private static final int BYTES = 32;
+
+    public static ChangeToken caughtUp(long sequence) {
+        return new ChangeToken(sequence, END_OF_SEQUENCE, sequence);
+    }
+
+    // Opaco para o cliente: base64 url-safe, como o cursor das listagens
+    public String encode() {
+        var buffer = ByteBuffer.allocate(BYTES)
+                .putLong(sequence)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .putLong(syncedAt);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    // Token vazio representa a sincronização completa
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            var buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+            if (buffer.remaining() != BYTES) {
+                throw new DomainException("Invalid change token.");
+            }
+            return new ChangeToken(buffer.getLong(), new UUID(buffer.getLong(), buffer.getLong()), buffer.getLong());
+        } catch (IllegalArgumentException ex) {
+            throw new DomainException("Invalid change token.");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.santanna.kronos.domain.common;
+
+import com.santanna.kronos.domain.exception.DomainException;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private int pageSize;
+    private Long totalElements;
+
+    public CursorPage(List<T> content, String nextCursor, int pageSize, Long totalElements) {
+        checkPageSize(pageSize);
+
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.pageSize = pageSize;
+        this.totalElements = totalElements;
+    }
+
+    // Também mantém o size + 1 das consultas de próxima página longe de Integer.MAX_VALUE
+    public static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new DomainException("Page size must be greater than zero.");
+        }
+        if (pageSize > PaginatedList.MAX_PAGE_SIZE) {
+            throw new DomainException("Page size must be at most " + PaginatedList.MAX_PAGE_SIZE + ".");
+        }
+    }
+
+    // O cursor é opaco para o cliente: a chave ordenada (UUID) codificada em base64 url-safe
+    public static String encodeKey(UUID key) {
+        var buffer = ByteBuffer.allocate(16)
+                .putLong(key.getMostSignificantBits())
+                .putLong(key.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    // Cursor vazio representa a primeira página
+    public static UUID decodeKey(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            var buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != 16) {
+                throw new DomainException("Invalid cursor.");
+            }
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException ex) {
+            throw new DomainException("Invalid cursor.");
+        }
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.santanna.kronos.domain.common;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+// Visão somente leitura que converte cada item ao ser lido, sem copiar a lista de origem
+final class MappedList<T, R> extends AbstractList<R> implements RandomAccess {
+    private final List<T> source;
+    private final Function<? super T, ? extends R> mapper;
+
+    MappedList(List<T> source, Function<? super T, ? extends R> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public R get(int index) {
+        return mapper.apply(source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
@@ -0,0 +1,49 @@
+package com.santanna.kronos.domain.common;
+
+import com.santanna.kronos.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Valores monetários em centavos num long: soma, comparação e média sem Double nem BigDecimal.
+// BigDecimal só aparece na fronteira com o banco (DECIMAL(15,2)) e Double na fronteira com o JSON
+public final class Money {
+    public static final int SCALE = 2;
+    private static final long CENTS_PER_UNIT = 100;
+
+    private Money() {
+    }
+
+    // Arredonda meio centavo para cima, como o valor digitado seria lido em decimal
+    public static long toCents(double value) {
+        if (!Double.isFinite(value) || Math.abs(value) >= Long.MAX_VALUE / CENTS_PER_UNIT) {
+            throw new DomainException("Invalid amount: " + value);
+        }
+        return Math.round(value * CENTS_PER_UNIT);
+    }
+
+    public static long toCents(BigDecimal value) {
+        try {
+            return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException ex) {
+            throw new DomainException("Invalid amount: " + value);
+        }
+    }
+
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    // Divisão de inteiros exatos: o double resultante é o mais próximo do valor decimal em centavos
+    public static double toDouble(long cents) {
+        return cents / (double) CENTS_PER_UNIT;
+    }
+
+    public static long average(long totalCents, long count) {
+        if (count <= 0) {
+            throw new DomainException("Cannot average an empty set.");
+        }
+        // Arredonda para o centavo mais próximo, metade para cima
+        return Math.floorDiv(2 * totalCents + count, 2 * count);
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.function.Function;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,19 +16,35 @@ public class  PaginatedList<T> {
     private long totalElements;
     private int totalPages;
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
     public PaginatedList(List<T> content, int pageNumber, int pageSize, long totalElements) {
+        checkPage(pageNumber, pageSize);
+
+        this.content = content;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.totalElements = totalElements;
+        this.totalPages = (int) Math.ceil((double) totalElements / pageSize);
+    }
+
+    // Chamado antes da consulta: um tamanho sem limite leria a tabela inteira numa única página
+    public static void checkPage(int pageNumber, int pageSize) {
         if (pageNumber < 0) {
             throw new DomainException("The page number cannot be negative.");
         }
         if (pageSize <= 0) {
             throw new DomainException("Page size must be greater than zero.");
         }
+        if (pageSize > MAX_PAGE_SIZE) {
+            throw new DomainException("Page size must be at most " + MAX_PAGE_SIZE + ".");
+        }
+    }
 
-        this.content = content;
-        this.pageNumber = pageNumber;
-        this.pageSize = pageSize;
-        this.totalElements = totalElements;
-        this.totalPages = (int) Math.ceil((double) totalElements / pageSize);
+    // Os itens são convertidos na leitura (ao serializar a resposta), sem uma segunda lista por página
+    public <R> PaginatedList<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content != null ? new MappedList<T, R>(content, mapper) : null;
+        return new PaginatedList<>(mapped, pageNumber, pageSize, totalElements, totalPages);
     }
 
     public List<T> getContent() {
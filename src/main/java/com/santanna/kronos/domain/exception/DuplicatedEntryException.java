@@ -0,0 +1,7 @@
+package com.santanna.kronos.domain.exception;
+
+public class DuplicatedEntryException extends DomainException {
+    public DuplicatedEntryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,6 @@
+package com.santanna.kronos.domain.model;
+
+public enum AggregateType {
+    EMPLOYEE,
+    COMPANY
+}
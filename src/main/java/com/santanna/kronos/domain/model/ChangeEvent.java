@@ -0,0 +1,38 @@
+package com.santanna.kronos.domain.model;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Evento compacto de alteração: identifica o registro e, em UPDATED, os campos alterados (nomes da API);
+// quem consome busca o estado atual pelo id
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ChangeEvent {
+    // Atribuído pelo outbox; define a ordem de publicação
+    private Long id;
+    private AggregateType aggregateType;
+    private UUID aggregateId;
+    private ChangeType type;
+    @Builder.Default
+    private List<String> fields = List.of();
+    private Instant occurredAt;
+
+    public static ChangeEvent of(AggregateType aggregateType, UUID aggregateId, ChangeType type) {
+        return of(aggregateType, aggregateId, type, List.of());
+    }
+
+    public static ChangeEvent of(AggregateType aggregateType, UUID aggregateId, ChangeType type, List<String> fields) {
+        return ChangeEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .type(type)
+                .fields(fields)
+                .occurredAt(Instant.now())
+                .build();
+    }
+}
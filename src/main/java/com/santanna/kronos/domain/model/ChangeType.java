@@ -0,0 +1,8 @@
+package com.santanna.kronos.domain.model;
+
+// A exclusão de uma empresa remove também os seus colaboradores: eles não geram eventos DELETED próprios
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,28 @@
+package com.santanna.kronos.domain.model;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Alteração parcial de uma empresa: campos nulos permanecem como estão
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CompanyPatch {
+    private String cnpj;
+    private String nameCompany;
+
+    public boolean isEmpty() {
+        return cnpj == null && nameCompany == null;
+    }
+
+    // Nomes dos campos enviados, como aparecem na API
+    public List<String> changedFields() {
+        List<String> fields = new ArrayList<>();
+        if (cnpj != null) fields.add("cnpj");
+        if (nameCompany != null) fields.add("nameCompany");
+        return fields;
+    }
+}
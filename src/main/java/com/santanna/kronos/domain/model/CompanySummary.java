@@ -0,0 +1,18 @@
+package com.santanna.kronos.domain.model;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CompanySummary {
+    private UUID id;
+    private String nameCompany;
+    private String cnpj;
+    private long employeeCount;
+    // Sequência da última modificação da empresa; o total de colaboradores muda sem alterá-la
+    private long version;
+}
@@ -14,7 +14,10 @@ public class Employee {
     private String name;
     private String surname;
     private String email;
-    private Double salary;
+    // Centavos (ver Money); nulo quando o salário não foi informado (a coluna aceita nulo)
+    private Long salaryCents;
     private String position;
     private Company company;
+    // Sequência da última modificação; muda sempre que a resposta do colaborador muda
+    private long version;
 }
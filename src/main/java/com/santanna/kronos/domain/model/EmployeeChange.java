@@ -0,0 +1,17 @@
+package com.santanna.kronos.domain.model;
+
+import lombok.*;
+
+import java.util.UUID;
+
+// Item do feed de alterações: estado atual do colaborador em CREATED/UPDATED, apenas o id em DELETED
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeChange {
+    private ChangeType type;
+    private UUID idEmployee;
+    private long sequence;
+    private Employee employee;
+}
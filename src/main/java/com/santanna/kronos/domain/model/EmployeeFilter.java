@@ -0,0 +1,25 @@
+package com.santanna.kronos.domain.model;
+
+import lombok.*;
+
+import java.util.UUID;
+
+// Critérios da busca de colaboradores: campos nulos não filtram
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeFilter {
+    // A busca pagina por OFFSET: só os primeiros MAX_RESULTS resultados são alcançáveis e contados
+    public static final int MAX_RESULTS = 10_000;
+
+    private UUID companyId;
+    private String position;
+    // Faixa salarial em centavos (ver Money), inclusiva
+    private Long minSalaryCents;
+    private Long maxSalaryCents;
+    private String namePrefix;
+    @Builder.Default
+    private EmployeeSort sort = EmployeeSort.NAME;
+    private boolean descending;
+}
@@ -0,0 +1,39 @@
+package com.santanna.kronos.domain.model;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// Alteração parcial de um colaborador: campos nulos permanecem como estão
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeePatch {
+    private String cpf;
+    private String name;
+    private String surname;
+    private String email;
+    // Centavos (ver Money)
+    private Long salaryCents;
+    private String position;
+
+    public boolean isEmpty() {
+        return Stream.of(cpf, name, surname, email, salaryCents, position).allMatch(Objects::isNull);
+    }
+
+    // Nomes dos campos enviados, como aparecem na API
+    public List<String> changedFields() {
+        List<String> fields = new ArrayList<>();
+        if (cpf != null) fields.add("cpf");
+        if (name != null) fields.add("name");
+        if (surname != null) fields.add("surname");
+        if (email != null) fields.add("email");
+        if (salaryCents != null) fields.add("salary");
+        if (position != null) fields.add("position");
+        return fields;
+    }
+}
@@ -0,0 +1,8 @@
+package com.santanna.kronos.domain.model;
+
+// Campos pelos quais a busca de colaboradores pode ser ordenada (desempate sempre pelo id)
+public enum EmployeeSort {
+    NAME,
+    SALARY,
+    POSITION
+}
@@ -0,0 +1,29 @@
+package com.santanna.kronos.domain.model;
+
+import com.santanna.kronos.domain.common.Money;
+import lombok.*;
+
+import java.util.UUID;
+
+// Agregados de salário de uma empresa (position nulo) ou de um cargo dentro dela, em centavos (ver Money);
+// sem colaboradores (headcount zero) os valores não têm significado
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PayrollSummary {
+    private UUID companyId;
+    private String cnpj;
+    private String nameCompany;
+    private String position;
+    private long headcount;
+    private long totalSalaryCents;
+    private long minSalaryCents;
+    private long maxSalaryCents;
+    private long medianSalaryCents;
+    private long p90SalaryCents;
+
+    public long getAverageSalaryCents() {
+        return headcount == 0 ? 0 : Money.average(totalSalaryCents, headcount);
+    }
+}
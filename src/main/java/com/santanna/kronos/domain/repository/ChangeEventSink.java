@@ -0,0 +1,11 @@
+package com.santanna.kronos.domain.repository;
+
+import com.santanna.kronos.domain.model.ChangeEvent;
+
+import java.util.List;
+
+// Destino dos eventos do outbox. A entrega é pelo menos uma vez: um lote pode ser reenviado se a transação do
+// relay falhar depois da publicação, então o consumidor deve ignorar ids já vistos
+public interface ChangeEventSink {
+    void publish(List<ChangeEvent> events);
+}
@@ -1,15 +1,32 @@
 package com.santanna.kronos.domain.repository;
 
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
 import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.model.CompanyPatch;
+import com.santanna.kronos.domain.model.CompanySummary;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CompanyRepository {
     Optional<Company> findCompany(UUID companyId);
+    Optional<CompanySummary> findCompanySummary(UUID companyId);
+    // Resumo só com id, versão e total de colaboradores, sem nome nem CNPJ
+    Optional<CompanySummary> findCompanyVersion(UUID companyId);
+    boolean existsCompany(UUID companyId);
+    long countEmployees(UUID companyId);
     Optional<Company> findCnpj(String cnpj);
-    void saveCompany(Company company);
-    PaginatedList<Company> findAllCompanies(int page, int size);
-    void deleteCompany(UUID companyId);
+    Optional<UUID> findCompanyIdByCnpj(String cnpj);
+    Map<String, UUID> findCompanyIdsByCnpj(Collection<String> cnpjs);
+    UUID saveCompany(Company company);
+    boolean patchCompany(UUID companyId, CompanyPatch patch);
+    PaginatedList<CompanySummary> findAllCompanies(int page, int size);
+    CursorPage<CompanySummary> findCompaniesAfter(UUID after, int size, boolean withTotal);
+    // Ambos devolvem os ids dos colaboradores excluídos, para os eventos gravados na mesma transação
+    List<UUID> deleteEmployees(UUID companyId, int limit);
+    List<UUID> deleteCompany(UUID companyId);
 }
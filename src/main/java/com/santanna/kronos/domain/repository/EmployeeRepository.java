@@ -1,17 +1,38 @@
 package com.santanna.kronos.domain.repository;
 
 
+import com.santanna.kronos.domain.common.ChangeToken;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
 import com.santanna.kronos.domain.model.Employee;
+import com.santanna.kronos.domain.model.EmployeeChange;
+import com.santanna.kronos.domain.model.EmployeeFilter;
+import com.santanna.kronos.domain.model.EmployeePatch;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.UUID;
 
 public interface EmployeeRepository {
     Optional<Employee> findEmployee(UUID employeeId);
+    Optional<Long> findEmployeeVersion(UUID employeeId);
     Optional<Employee> findCpf(String cpf);
-    Employee saveEmployee(Employee employee);
+    Optional<UUID> findCompanyId(UUID employeeId);
+    Set<String> findExistingCpfs(Collection<String> cpfs);
+    boolean patchEmployee(UUID employeeId, EmployeePatch patch);
+    Employee insertEmployee(Employee employee, UUID companyId);
+    void insertEmployees(List<Employee> employees);
     PaginatedList<Employee> findAllEmployees(int page, int size);
+    PaginatedList<Employee> searchEmployees(EmployeeFilter filter, int page, int size);
+    void streamEmployees(String cnpj, Consumer<Employee> consumer);
+    CursorPage<Employee> findEmployeesAfter(UUID after, int size, boolean withTotal);
+    CursorPage<Employee> findCompanyEmployeesAfter(UUID companyId, UUID after, int size, boolean withTotal);
     void deleteEmployee(UUID employeeId);
+    // Até limit alterações depois de since (nulo = desde o início) e com sequência até upTo, em ordem de sequência
+    List<EmployeeChange> findEmployeeChanges(ChangeToken since, long upTo, int limit);
+    int purgeTombstones(long before);
 
 }
@@ -0,0 +1,18 @@
+package com.santanna.kronos.domain.repository;
+
+import com.santanna.kronos.domain.model.ChangeEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface OutboxRepository {
+    // Deve ser chamado na transação da escrita e depois dela: o lock da linha alterada ordena os eventos do registro
+    void append(ChangeEvent event);
+    void appendAll(List<ChangeEvent> events);
+    // Trava até limit eventos na ordem do id, entrega ao publisher e apaga os publicados na mesma transação;
+    // se o publisher falhar, nada é apagado
+    List<ChangeEvent> publishPending(int limit, Consumer<List<ChangeEvent>> publisher);
+    Optional<Instant> findOldestPending();
+}
@@ -0,0 +1,22 @@
+package com.santanna.kronos.domain.repository;
+
+import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.domain.model.PayrollSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PayrollRepository {
+    PaginatedList<PayrollSummary> findCompanySummaries(int page, int size);
+    Optional<PayrollSummary> findCompanySummary(UUID companyId);
+    List<PayrollSummary> findPositionSummaries(UUID companyId);
+    // Devem ser chamados na transação da escrita: a marcação é confirmada (ou desfeita) junto com ela
+    void markStale(Collection<UUID> companyIds);
+    void markStaleByEmployee(UUID employeeId);
+    // Até limit empresas marcadas, as mais antigas primeiro
+    List<UUID> findStaleCompanies(int limit);
+    // Recalcula os resumos e apaga as marcações da empresa lidas no início, na mesma transação
+    void refreshCompany(UUID companyId);
+}
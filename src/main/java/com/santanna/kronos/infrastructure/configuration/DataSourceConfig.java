@@ -0,0 +1,82 @@
+package com.santanna.kronos.infrastructure.configuration;
+
+import com.santanna.kronos.infrastructure.datasource.ReplicaDataSource;
+import com.santanna.kronos.infrastructure.datasource.ReplicaMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// O DataSource da aplicação só pega uma conexão física no primeiro comando SQL: acertos de cache não ocupam o pool,
+// e transações somente leitura (Connection.setReadOnly antes do primeiro comando) vão para as réplicas configuradas
+// em kronos.datasource.replicas. Sem réplicas, tudo vai para o primário
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ObjectProvider<ReplicaDataSource> replicas) {
+        var dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        replicas.ifAvailable(dataSource::setReadOnlyDataSource);
+        return dataSource;
+    }
+
+    @Configuration
+    @ConditionalOnProperty("kronos.datasource.replicas[0].url")
+    public static class ReplicaConfig {
+
+        // Cada réplica tem o próprio pool, com o tamanho e os timeouts do primário
+        @Bean
+        public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource, Environment environment,
+                                                   @Value("${kronos.datasource.replica-max-lag:PT5S}") Duration maxLag) {
+            var properties = Binder.get(environment)
+                    .bind("kronos.datasource.replicas", Bindable.listOf(DataSourceProperties.class))
+                    .orElse(List.of());
+            List<HikariDataSource> replicas = new ArrayList<>(properties.size());
+            for (int i = 0; i < properties.size(); i++) {
+                var replica = properties.get(i).initializeDataSourceBuilder().type(HikariDataSource.class).build();
+                replica.setPoolName("replica-" + i);
+                replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+                replica.setMinimumIdle(primaryDataSource.getMinimumIdle());
+                replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+                replicas.add(replica);
+            }
+            return new ReplicaDataSource(primaryDataSource, replicas, maxLag);
+        }
+
+        @Bean
+        public ReplicaMonitor replicaMonitor(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource,
+                                             @Value("${kronos.datasource.replica-check-timeout:PT2S}") Duration timeout,
+                                             MeterRegistry registry) {
+            return new ReplicaMonitor(primaryDataSource, replicaDataSource, timeout, registry);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.santanna.kronos.infrastructure.configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    public static final String REPOSITORY = "kronos.repository";
+    public static final String MAPPER = "kronos.mapper";
+    public static final String COMPANY_EMPLOYEES_LOADED = "kronos.company.employees.loaded";
+    public static final String OUTBOX_RELAY_LAG = "kronos.outbox.relay.lag";
+    public static final String OUTBOX_PENDING_AGE = "kronos.outbox.pending.age";
+    public static final String OUTBOX_PUBLISHED = "kronos.outbox.published";
+    public static final String REPLICA_LAG = "kronos.datasource.replica.lag";
+    public static final String REPLICA_AVAILABLE = "kronos.datasource.replica.available";
+
+    // Habilita @Timed nas classes de caso de uso e repositório (tags class, method e exception);
+    // histogramas e percentis são configurados em management.metrics.distribution
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,31 @@
+package com.santanna.kronos.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.domain.repository.ChangeEventSink;
+import com.santanna.kronos.infrastructure.outbox.FileChangeEventSink;
+import com.santanna.kronos.infrastructure.outbox.InMemoryChangeEventSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+// Destino do relay do outbox escolhido por kronos.outbox.sink (file ou memory); para outro destino (fila, broker)
+// registre um bean ChangeEventSink e use um valor diferente desses dois
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "kronos.outbox.sink", havingValue = "file", matchIfMissing = true)
+    public ChangeEventSink fileChangeEventSink(@Value("${kronos.outbox.file:outbox/change-events.ndjson}") Path file,
+                                               ObjectMapper objectMapper) {
+        return new FileChangeEventSink(file, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "kronos.outbox.sink", havingValue = "memory")
+    public InMemoryChangeEventSink inMemoryChangeEventSink() {
+        return new InMemoryChangeEventSink();
+    }
+}
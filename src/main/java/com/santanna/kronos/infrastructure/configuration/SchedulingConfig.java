@@ -0,0 +1,10 @@
+package com.santanna.kronos.infrastructure.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Tarefas periódicas de manutenção (recálculo dos resumos de folha)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,23 @@
+package com.santanna.kronos.infrastructure.datasource;
+
+// Posição (sequência em microssegundos) da última escrita do cliente da requisição atual: a réplica só atende
+// a leitura se o batimento que ela já aplicou for posterior a essa escrita
+public final class ReadYourWrites {
+    private static final ThreadLocal<Long> REQUIRED_POSITION = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void require(long position) {
+        REQUIRED_POSITION.set(position);
+    }
+
+    public static long requiredPosition() {
+        var position = REQUIRED_POSITION.get();
+        return position != null ? position : 0L;
+    }
+
+    public static void clear() {
+        REQUIRED_POSITION.remove();
+    }
+}
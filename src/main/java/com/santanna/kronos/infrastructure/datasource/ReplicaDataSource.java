@@ -0,0 +1,125 @@
+package com.santanna.kronos.infrastructure.datasource;
+
+import com.santanna.kronos.domain.common.ChangeSequence;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Conexões das transações somente leitura: rodízio entre as réplicas disponíveis, com atraso dentro de maxLag
+// e já em dia com a última escrita do cliente. Sem nenhuma assim, a leitura vai para o primário
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMicros;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSource(DataSource primary, List<HikariDataSource> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagMicros = maxLag.dividedBy(ChronoUnit.MICROS.getDuration());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        var replica = choose(ReadYourWrites.requiredPosition());
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException ex) {
+            // Até a próxima verificação a réplica fica fora do rodízio
+            replica.markDown();
+            return primary.getConnection();
+        }
+    }
+
+    // Cada réplica tem as próprias credenciais: credenciais explícitas só valem para o primário
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    private Replica choose(long requiredPosition) {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get((start + i) % replicas.size());
+            if (replica.isUsable(requiredPosition, maxLagMicros)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    // Estado da última verificação; até a primeira a réplica não recebe leituras
+    public static class Replica {
+        private static final String READ_BEAT = "SELECT beat_seq FROM tb_replication_heartbeat WHERE id = 1";
+        private static final State DOWN = new State(false, 0L, 0L);
+
+        private final HikariDataSource dataSource;
+        private volatile State state = DOWN;
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return dataSource.getPoolName();
+        }
+
+        public boolean isAvailable() {
+            return state.available();
+        }
+
+        public long getLagMicros() {
+            return state.lagMicros();
+        }
+
+        // Lê o batimento replicado: a posição aplicada e, pela diferença para o relógio, o atraso
+        void check(int timeoutSeconds) {
+            try (var connection = dataSource.getConnection();
+                 var statement = connection.prepareStatement(READ_BEAT)) {
+                statement.setQueryTimeout(timeoutSeconds);
+                try (var rs = statement.executeQuery()) {
+                    if (!rs.next()) {
+                        markDown();
+                        return;
+                    }
+                    long position = rs.getLong(1);
+                    state = new State(true, position, Math.max(0L, ChangeSequence.of(Instant.now()) - position));
+                }
+            } catch (SQLException ex) {
+                markDown();
+            }
+        }
+
+        void markDown() {
+            state = DOWN;
+        }
+
+        boolean isUsable(long requiredPosition, long maxLagMicros) {
+            var current = state;
+            return current.available() && current.lagMicros() <= maxLagMicros && current.position() >= requiredPosition;
+        }
+    }
+
+    private record State(boolean available, long position, long lagMicros) {
+    }
+}
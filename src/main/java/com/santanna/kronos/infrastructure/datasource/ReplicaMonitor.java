@@ -0,0 +1,54 @@
+package com.santanna.kronos.infrastructure.datasource;
+
+import com.santanna.kronos.domain.common.ChangeSequence;
+import com.santanna.kronos.infrastructure.configuration.MetricsConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Grava o batimento no primário e verifica cada réplica: uma réplica que não responde, ou atrasada além do limite,
+// sai do rodízio até a próxima verificação bem-sucedida
+public class ReplicaMonitor {
+    private static final String BEAT = "UPDATE tb_replication_heartbeat SET beat_seq = ? WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final ReplicaDataSource replicaDataSource;
+    private final int timeoutSeconds;
+
+    public ReplicaMonitor(DataSource primary, ReplicaDataSource replicaDataSource, Duration timeout,
+                          MeterRegistry registry) {
+        this.timeoutSeconds = (int) Math.max(1, timeout.toSeconds());
+        this.primary = new JdbcTemplate(primary);
+        this.primary.setQueryTimeout(timeoutSeconds);
+        this.replicaDataSource = replicaDataSource;
+        for (var replica : replicaDataSource.getReplicas()) {
+            TimeGauge.builder(MetricsConfig.REPLICA_LAG, replica, TimeUnit.MICROSECONDS,
+                            r -> r.isAvailable() ? r.getLagMicros() : Double.NaN)
+                    .description("Atraso da réplica medido pelo batimento na última verificação")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+            Gauge.builder(MetricsConfig.REPLICA_AVAILABLE, replica, r -> r.isAvailable() ? 1 : 0)
+                    .description("1 quando a réplica recebe leituras, 0 quando as leituras vão para o primário")
+                    .tag("replica", replica.getName())
+                    .register(registry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kronos.datasource.replica-check-interval:PT1S}",
+            initialDelayString = "${kronos.datasource.replica-check-interval:PT1S}")
+    public synchronized void check() {
+        try {
+            primary.update(BEAT, ChangeSequence.next());
+        } catch (DataAccessException ex) {
+            // Sem batimento novo o atraso medido cresce e as réplicas saem do rodízio sozinhas
+        }
+        replicaDataSource.getReplicas().forEach(replica -> replica.check(timeoutSeconds));
+    }
+}
@@ -1,10 +1,16 @@
 package com.santanna.kronos.infrastructure.entity;
 
+import com.santanna.kronos.domain.common.ChangeSequence;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
 
 import java.util.List;
 import java.util.UUID;
@@ -14,13 +20,28 @@ import java.util.UUID;
 @NoArgsConstructor
 @Entity
 @Builder
-@Table(name = "tb_company")
+// Empresas quase não mudam: ficam no cache de segundo nível (região dimensionada em application.conf)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CompanyEntity.CACHE_REGION)
+@Table(name = "tb_company", uniqueConstraints = @UniqueConstraint(name = "uk_company_cnpj", columnNames = "cnpj"))
 public class CompanyEntity {
+    public static final String UK_CNPJ = "uk_company_cnpj";
+    public static final String CACHE_REGION = "company";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     UUID id;
     String nameCompany;
     String cnpj;
     @OneToMany(mappedBy = "company", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<EmployeeEntity> employees;
+    @Column(nullable = false)
+    private long changeSeq;
+
+    @PrePersist
+    @PreUpdate
+    void onChange() {
+        changeSeq = ChangeSequence.next();
+    }
 }
@@ -1,11 +1,16 @@
 package com.santanna.kronos.infrastructure.entity;
 
+import com.santanna.kronos.domain.common.ChangeSequence;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
 @Data
@@ -13,17 +18,51 @@ import java.util.UUID;
 @NoArgsConstructor
 @Entity
 @Builder
-@Table(name = "tb_employee")
+// Esquema versionado em db/migration; os nomes abaixo espelham as migrations
+@Table(name = "tb_employee",
+        uniqueConstraints = @UniqueConstraint(name = "uk_employee_cpf", columnNames = "cpf"),
+        indexes = {
+                @Index(name = "idx_employee_company_keyset", columnList = "company_id, id_employee"),
+                @Index(name = "idx_employee_company_position_salary", columnList = "company_id, position, salary"),
+                @Index(name = "idx_employee_company_salary", columnList = "company_id, salary"),
+                @Index(name = "idx_employee_company_name", columnList = "company_id, name"),
+                @Index(name = "idx_employee_position_salary", columnList = "position, salary"),
+                @Index(name = "idx_employee_name", columnList = "name"),
+                @Index(name = "idx_employee_change", columnList = "change_seq, id_employee")
+        })
 public class EmployeeEntity {
-    @Id @GeneratedValue(strategy = GenerationType.AUTO)
+    public static final String UK_CPF = "uk_employee_cpf";
+
+    @Id @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
     private UUID idEmployee;
     private String cpf;
     private String name;
     private String surname;
     private String email;
-    private Double salary;
+    @Column(precision = 15, scale = 2)
+    private BigDecimal salary;
     private String position;
-    @ManyToOne
+    // LAZY: leituras usam projeções (EmployeeView) e só trazem a empresa quando a consulta pede
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false) // Define a chave estrangeira
     private CompanyEntity company;
+    // Sequência da última modificação e da criação (ver ChangeSequence); base do feed de alterações
+    @Column(nullable = false)
+    private long changeSeq;
+    @Column(nullable = false, updatable = false)
+    private long createdSeq;
+
+    // UPDATEs em massa (PartialUpdate) não passam por aqui e gravam a sequência explicitamente
+    @PrePersist
+    void onCreate() {
+        changeSeq = ChangeSequence.next();
+        createdSeq = changeSeq;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        changeSeq = ChangeSequence.next();
+    }
 }
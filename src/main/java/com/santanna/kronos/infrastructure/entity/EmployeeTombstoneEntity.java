@@ -0,0 +1,27 @@
+package com.santanna.kronos.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "tb_employee_tombstone",
+        indexes = @Index(name = "idx_employee_tombstone_seq", columnList = "deleted_seq, id_employee"))
+public class EmployeeTombstoneEntity {
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID idEmployee;
+    @Column(nullable = false)
+    private long deletedSeq;
+}
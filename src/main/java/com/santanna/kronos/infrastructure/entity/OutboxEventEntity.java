@@ -0,0 +1,36 @@
+package com.santanna.kronos.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "tb_outbox_event")
+public class OutboxEventEntity {
+    // AUTO_INCREMENT do banco: a ordem do id é a ordem de publicação
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false, length = 20)
+    private String aggregateType;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(nullable = false, length = 16)
+    private UUID aggregateId;
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String type;
+    // Campos alterados separados por vírgula; nulo fora de UPDATED
+    private String changedFields;
+    // Epoch em milissegundos
+    @Column(nullable = false)
+    private long occurredAt;
+}
@@ -0,0 +1,37 @@
+package com.santanna.kronos.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+// Resumo materializado: gravado apenas pelo recálculo em SQL (PayrollRefreshPersistence), nunca pelo Hibernate
+@Immutable
+@Table(name = "tb_payroll_company")
+public class PayrollCompanyEntity {
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID companyId;
+    private long headcount;
+    @Column(precision = 19, scale = 2)
+    private BigDecimal totalSalary;
+    @Column(precision = 15, scale = 2)
+    private BigDecimal minSalary;
+    @Column(precision = 15, scale = 2)
+    private BigDecimal maxSalary;
+    @Column(precision = 15, scale = 2)
+    private BigDecimal medianSalary;
+    @Column(name = "p90_salary", precision = 15, scale = 2)
+    private BigDecimal p90Salary;
+}
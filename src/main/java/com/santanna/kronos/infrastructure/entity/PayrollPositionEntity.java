@@ -0,0 +1,49 @@
+package com.santanna.kronos.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+// Resumo materializado por cargo: gravado apenas pelo recálculo em SQL (PayrollRefreshPersistence)
+@Immutable
+@IdClass(PayrollPositionEntity.Key.class)
+@Table(name = "tb_payroll_position")
+public class PayrollPositionEntity {
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16)
+    private UUID companyId;
+    @Id
+    private String position;
+    private long headcount;
+    @Column(precision = 19, scale = 2)
+    private BigDecimal totalSalary;
+    @Column(precision = 15, scale = 2)
+    private BigDecimal minSalary;
+    @Column(precision = 15, scale = 2)
+    private BigDecimal maxSalary;
+    @Column(precision = 15, scale = 2)
+    private BigDecimal medianSalary;
+    @Column(name = "p90_salary", precision = 15, scale = 2)
+    private BigDecimal p90Salary;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private UUID companyId;
+        private String position;
+    }
+}
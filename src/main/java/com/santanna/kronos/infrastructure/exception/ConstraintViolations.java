@@ -0,0 +1,20 @@
+package com.santanna.kronos.infrastructure.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+public class ConstraintViolations {
+
+    // Identifica qual constraint do banco foi violada; o nome vem do driver e varia de formato entre bancos
+    public static boolean isViolationOf(DataIntegrityViolationException ex, String constraintName) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName)) {
+                return true;
+            }
+        }
+        return ex.getMessage() != null && ex.getMessage().toLowerCase(Locale.ROOT).contains(constraintName);
+    }
+}
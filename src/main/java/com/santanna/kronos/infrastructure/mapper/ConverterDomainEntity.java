@@ -1,11 +1,34 @@
 package com.santanna.kronos.infrastructure.mapper;
 
+import com.santanna.kronos.domain.common.ChangeToken;
+import com.santanna.kronos.domain.common.Money;
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
 import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.model.CompanyPatch;
+import com.santanna.kronos.domain.model.CompanySummary;
 import com.santanna.kronos.domain.model.Employee;
+import com.santanna.kronos.domain.model.EmployeeChange;
+import com.santanna.kronos.domain.model.EmployeePatch;
+import com.santanna.kronos.domain.model.PayrollSummary;
 import com.santanna.kronos.infrastructure.entity.CompanyEntity;
 import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+import com.santanna.kronos.infrastructure.entity.EmployeeTombstoneEntity;
+import com.santanna.kronos.infrastructure.entity.OutboxEventEntity;
+import com.santanna.kronos.infrastructure.persistence.projection.CompanySummaryView;
+import com.santanna.kronos.infrastructure.persistence.projection.CompanyVersionView;
+import com.santanna.kronos.infrastructure.persistence.projection.EmployeeChangeView;
+import com.santanna.kronos.infrastructure.persistence.projection.EmployeeView;
+import com.santanna.kronos.infrastructure.persistence.projection.PayrollCompanyView;
+import com.santanna.kronos.infrastructure.persistence.projection.PayrollPositionView;
+import org.hibernate.Hibernate;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -26,6 +49,26 @@ public class ConverterDomainEntity {
                 .build();
     }
 
+    // Resumo parcial, só com o que compõe o ETag
+    public static CompanySummary toDomain(CompanyVersionView view) {
+        return CompanySummary.builder()
+                .id(view.getId())
+                .employeeCount(view.getEmployeeCount())
+                .version(view.getChangeSeq())
+                .build();
+    }
+
+    // Conversão da projeção de listagem para CompanySummary (domínio)
+    public static CompanySummary toDomain(CompanySummaryView view) {
+        return CompanySummary.builder()
+                .id(view.getId())
+                .nameCompany(view.getNameCompany())
+                .cnpj(view.getCnpj())
+                .employeeCount(view.getEmployeeCount())
+                .version(view.getChangeSeq())
+                .build();
+    }
+
     // Conversão de Company (domínio) para CompanyEntity
     public static CompanyEntity toEntity(Company domain) {
         CompanyEntity companyEntity = CompanyEntity.builder()
@@ -51,12 +94,16 @@ public class ConverterDomainEntity {
     public static Employee toDomain(EmployeeEntity entity) {
         // Para evitar recursão infinita, você pode mapear a Company de forma rasa (por exemplo, sem os funcionários)
         Company company = null;
-        if (entity.getCompany() != null) {
-            company = Company.builder()
-                    .id(entity.getCompany().getId())
-                    .nameCompany(entity.getCompany().getNameCompany())
-                    .cnpj(entity.getCompany().getCnpj())
-                    .build();
+        var companyEntity = entity.getCompany();
+        if (companyEntity != null) {
+            // Proxy LAZY não inicializado: apenas o id, sem disparar outro SELECT
+            company = Hibernate.isInitialized(companyEntity)
+                    ? Company.builder()
+                    .id(companyEntity.getId())
+                    .nameCompany(companyEntity.getNameCompany())
+                    .cnpj(companyEntity.getCnpj())
+                    .build()
+                    : Company.builder().id(companyEntity.getId()).build();
         }
         return Employee.builder()
                 .idEmployee(entity.getIdEmployee())
@@ -64,9 +111,73 @@ public class ConverterDomainEntity {
                 .name(entity.getName())
                 .surname(entity.getSurname())
                 .email(entity.getEmail())
-                .salary(entity.getSalary())
+                .salaryCents(toNullableCents(entity.getSalary()))
                 .position(entity.getPosition())
                 .company(company)
+                .version(entity.getChangeSeq())
+                .build();
+    }
+
+    // Conversão da projeção de leitura para Employee (domínio), com a empresa reduzida ao nome
+    public static Employee toDomain(EmployeeView view) {
+        return Employee.builder()
+                .idEmployee(view.getIdEmployee())
+                .cpf(view.getCpf())
+                .name(view.getName())
+                .surname(view.getSurname())
+                .email(view.getEmail())
+                .salaryCents(toNullableCents(view.getSalary()))
+                .position(view.getPosition())
+                .company(Company.builder().nameCompany(view.getNameCompany()).build())
+                .version(view.getChangeSeq())
+                .build();
+    }
+
+    // Criado depois do token é CREATED para o cliente; sem token (sincronização completa) tudo é CREATED
+    public static EmployeeChange toChange(EmployeeChangeView view, ChangeToken since) {
+        var created = since == null || view.getCreatedSeq() > since.sequence();
+        return EmployeeChange.builder()
+                .type(created ? ChangeType.CREATED : ChangeType.UPDATED)
+                .idEmployee(view.getIdEmployee())
+                .sequence(view.getChangeSeq())
+                .employee(toDomain(view))
+                .build();
+    }
+
+    public static EmployeeChange toChange(EmployeeTombstoneEntity tombstone) {
+        return EmployeeChange.builder()
+                .type(ChangeType.DELETED)
+                .idEmployee(tombstone.getIdEmployee())
+                .sequence(tombstone.getDeletedSeq())
+                .build();
+    }
+
+    // Conversão do resumo de folha da empresa; sem colaboradores não há linha de resumo e o headcount é zero
+    public static PayrollSummary toDomain(PayrollCompanyView view) {
+        return PayrollSummary.builder()
+                .companyId(view.getCompanyId())
+                .cnpj(view.getCnpj())
+                .nameCompany(view.getNameCompany())
+                .headcount(view.getHeadcount() != null ? view.getHeadcount() : 0)
+                .totalSalaryCents(toCents(view.getTotalSalary()))
+                .minSalaryCents(toCents(view.getMinSalary()))
+                .maxSalaryCents(toCents(view.getMaxSalary()))
+                .medianSalaryCents(toCents(view.getMedianSalary()))
+                .p90SalaryCents(toCents(view.getP90Salary()))
+                .build();
+    }
+
+    // Conversão do resumo de folha de um cargo dentro da empresa
+    public static PayrollSummary toDomain(PayrollPositionView view) {
+        return PayrollSummary.builder()
+                .companyId(view.getCompanyId())
+                .position(view.getPosition())
+                .headcount(view.getHeadcount())
+                .totalSalaryCents(toCents(view.getTotalSalary()))
+                .minSalaryCents(toCents(view.getMinSalary()))
+                .maxSalaryCents(toCents(view.getMaxSalary()))
+                .medianSalaryCents(toCents(view.getMedianSalary()))
+                .p90SalaryCents(toCents(view.getP90Salary()))
                 .build();
     }
 
@@ -78,7 +189,7 @@ public class ConverterDomainEntity {
                 .name(domain.getName())
                 .surname(domain.getSurname())
                 .email(domain.getEmail())
-                .salary(domain.getSalary())
+                .salary(domain.getSalaryCents() != null ? Money.toDecimal(domain.getSalaryCents()) : null)
                 .position(domain.getPosition())
                 .build();
         if (domain.getCompany() != null) {
@@ -92,4 +203,56 @@ public class ConverterDomainEntity {
         }
         return employeeEntity;
     }
+
+    // Conversão de EmployeePatch (domínio) para os atributos de EmployeeEntity que serão alterados
+    public static Map<String, Object> toChanges(EmployeePatch patch) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Optional.ofNullable(patch.getCpf()).ifPresent(cpf -> changes.put("cpf", cpf));
+        Optional.ofNullable(patch.getName()).ifPresent(name -> changes.put("name", name));
+        Optional.ofNullable(patch.getSurname()).ifPresent(surname -> changes.put("surname", surname));
+        Optional.ofNullable(patch.getEmail()).ifPresent(email -> changes.put("email", email));
+        Optional.ofNullable(patch.getSalaryCents()).ifPresent(cents -> changes.put("salary", Money.toDecimal(cents)));
+        Optional.ofNullable(patch.getPosition()).ifPresent(position -> changes.put("position", position));
+        return changes;
+    }
+
+    // Conversão de CompanyPatch (domínio) para os atributos de CompanyEntity que serão alterados
+    public static Map<String, Object> toChanges(CompanyPatch patch) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Optional.ofNullable(patch.getCnpj()).ifPresent(cnpj -> changes.put("cnpj", cnpj));
+        Optional.ofNullable(patch.getNameCompany()).ifPresent(name -> changes.put("nameCompany", name));
+        return changes;
+    }
+
+    // Conversão de ChangeEvent (domínio) para a linha do outbox; o id é gerado pelo banco
+    public static OutboxEventEntity toEntity(ChangeEvent event) {
+        return OutboxEventEntity.builder()
+                .aggregateType(event.getAggregateType().name())
+                .aggregateId(event.getAggregateId())
+                .type(event.getType().name())
+                .changedFields(event.getFields().isEmpty() ? null : String.join(",", event.getFields()))
+                .occurredAt(event.getOccurredAt().toEpochMilli())
+                .build();
+    }
+
+    public static ChangeEvent toDomain(OutboxEventEntity entity) {
+        return ChangeEvent.builder()
+                .id(entity.getId())
+                .aggregateType(AggregateType.valueOf(entity.getAggregateType()))
+                .aggregateId(entity.getAggregateId())
+                .type(ChangeType.valueOf(entity.getType()))
+                .fields(entity.getChangedFields() == null ? List.of() : List.of(entity.getChangedFields().split(",")))
+                .occurredAt(Instant.ofEpochMilli(entity.getOccurredAt()))
+                .build();
+    }
+
+    // Colunas DECIMAL nulas (empresa sem resumo de folha) viram zero centavos
+    private static long toCents(BigDecimal value) {
+        return value != null ? Money.toCents(value) : 0;
+    }
+
+    // Salário nulo continua nulo: zero entraria como valor real nos agregados da folha
+    private static Long toNullableCents(BigDecimal value) {
+        return value != null ? Money.toCents(value) : null;
+    }
 }
@@ -0,0 +1,42 @@
+package com.santanna.kronos.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.repository.ChangeEventSink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Um evento JSON por linha, acrescentado ao arquivo a cada lote; uma falha de escrita desfaz o lote no outbox
+public class FileChangeEventSink implements ChangeEventSink {
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileChangeEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<ChangeEvent> events) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (var event : events) {
+                    writer.write(objectMapper.writeValueAsString(event));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Error writing change events to " + file, ex);
+        }
+    }
+}
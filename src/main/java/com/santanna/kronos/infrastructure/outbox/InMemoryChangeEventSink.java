@@ -0,0 +1,25 @@
+package com.santanna.kronos.infrastructure.outbox;
+
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.repository.ChangeEventSink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Guarda os eventos publicados em memória (testes e desenvolvimento local)
+public class InMemoryChangeEventSink implements ChangeEventSink {
+    private final List<ChangeEvent> events = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<ChangeEvent> batch) {
+        events.addAll(batch);
+    }
+
+    public synchronized List<ChangeEvent> getEvents() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
@@ -0,0 +1,8 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface CompanyPatchPersistence {
+    int updateColumns(UUID companyId, Map<String, ?> changes);
+}
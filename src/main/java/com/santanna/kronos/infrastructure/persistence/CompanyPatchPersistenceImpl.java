@@ -0,0 +1,31 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.domain.common.ChangeSequence;
+import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class CompanyPatchPersistenceImpl implements CompanyPatchPersistence {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateColumns(UUID companyId, Map<String, ?> changes) {
+        int updated = PartialUpdate.execute(entityManager, CompanyEntity.class, "id", companyId, changes);
+        // O nome da empresa faz parte da resposta de colaborador: um UPDATE só da sequência leva os colaboradores
+        // ao feed de alterações
+        if (updated > 0 && changes.containsKey("nameCompany")) {
+            entityManager.createQuery("UPDATE EmployeeEntity e SET e.changeSeq = :seq WHERE e.company.id = :companyId")
+                    .setParameter("seq", ChangeSequence.next())
+                    .setParameter("companyId", companyId)
+                    .executeUpdate();
+        }
+        return updated;
+    }
+}
@@ -1,19 +1,91 @@
 package com.santanna.kronos.infrastructure.persistence;
 
 import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import com.santanna.kronos.infrastructure.persistence.projection.CompanyKeyView;
+import com.santanna.kronos.infrastructure.persistence.projection.CompanySummaryView;
+import com.santanna.kronos.infrastructure.persistence.projection.CompanyVersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CompanyPersistence extends JpaRepository<CompanyEntity, UUID> {
+public interface CompanyPersistence extends JpaRepository<CompanyEntity, UUID>, CompanyPatchPersistence {
+    // Buscas pela chave natural (CNPJ) ficam no cache de consultas; qualquer escrita em tb_company as invalida
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CompanyEntity> findByCnpj(String cnpj);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT c.id FROM CompanyEntity c WHERE c.cnpj = :cnpj")
+    Optional<UUID> findIdByCnpj(@Param("cnpj") String cnpj);
+
+    @Query("SELECT c.id AS id, c.cnpj AS cnpj FROM CompanyEntity c WHERE c.cnpj IN :cnpjs")
+    List<CompanyKeyView> findIdsByCnpjIn(@Param("cnpjs") Collection<String> cnpjs);
+
     @Query("SELECT c FROM CompanyEntity c LEFT JOIN FETCH c.employees WHERE c.id = :companyId")
     Optional<CompanyEntity> findByIdWithEmployees(@Param("companyId") UUID companyId);
 
+    // Contagem calculada no banco: nenhuma linha de funcionário é carregada
+    @Query(value = "SELECT c.id AS id, c.cnpj AS cnpj, c.nameCompany AS nameCompany, c.changeSeq AS changeSeq, " +
+            "COUNT(e.idEmployee) AS employeeCount " +
+            "FROM CompanyEntity c LEFT JOIN c.employees e GROUP BY c.id, c.cnpj, c.nameCompany, c.changeSeq",
+            countQuery = "SELECT COUNT(c) FROM CompanyEntity c")
+    Page<CompanySummaryView> findAllSummaries(Pageable pageable);
+
+    @Query("SELECT c.id AS id, c.cnpj AS cnpj, c.nameCompany AS nameCompany, c.changeSeq AS changeSeq, " +
+            "COUNT(e.idEmployee) AS employeeCount " +
+            "FROM CompanyEntity c LEFT JOIN c.employees e GROUP BY c.id, c.cnpj, c.nameCompany, c.changeSeq ORDER BY c.id")
+    List<CompanySummaryView> findSummaries(Limit limit);
+
+    @Query("SELECT c.id AS id, c.cnpj AS cnpj, c.nameCompany AS nameCompany, c.changeSeq AS changeSeq, " +
+            "COUNT(e.idEmployee) AS employeeCount " +
+            "FROM CompanyEntity c LEFT JOIN c.employees e WHERE c.id > :after " +
+            "GROUP BY c.id, c.cnpj, c.nameCompany, c.changeSeq ORDER BY c.id")
+    List<CompanySummaryView> findSummariesAfter(@Param("after") UUID after, Limit limit);
+
+    @Query("SELECT c.id AS id, c.cnpj AS cnpj, c.nameCompany AS nameCompany, c.changeSeq AS changeSeq, " +
+            "COUNT(e.idEmployee) AS employeeCount " +
+            "FROM CompanyEntity c LEFT JOIN c.employees e WHERE c.id = :companyId " +
+            "GROUP BY c.id, c.cnpj, c.nameCompany, c.changeSeq")
+    Optional<CompanySummaryView> findSummaryById(@Param("companyId") UUID companyId);
+
+    // Só o que compõe o ETag: versão da linha e total de colaboradores, contado no índice de company_id
+    @Query("SELECT c.id AS id, c.changeSeq AS changeSeq, COUNT(e.idEmployee) AS employeeCount " +
+            "FROM CompanyEntity c LEFT JOIN c.employees e WHERE c.id = :companyId GROUP BY c.id, c.changeSeq")
+    Optional<CompanyVersionView> findVersionById(@Param("companyId") UUID companyId);
+
+    @Query("SELECT COUNT(e) FROM EmployeeEntity e WHERE e.company.id = :companyId")
+    long countEmployees(@Param("companyId") UUID companyId);
+
+    @Query("SELECT e.idEmployee FROM EmployeeEntity e WHERE e.company.id = :companyId")
+    List<UUID> findEmployeeIds(@Param("companyId") UUID companyId, Limit limit);
+
+    // Exclusões em massa: um único DELETE por comando, sem carregar entidades nem passar pelo cascade
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM EmployeeEntity e WHERE e.idEmployee IN :ids")
+    int deleteEmployeesByIds(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM EmployeeEntity e WHERE e.company.id = :companyId")
+    int deleteEmployeesByCompanyId(@Param("companyId") UUID companyId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CompanyEntity c WHERE c.id = :companyId")
+    int deleteCompanyById(@Param("companyId") UUID companyId);
 }
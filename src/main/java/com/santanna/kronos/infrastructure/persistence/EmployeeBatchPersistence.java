@@ -0,0 +1,9 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+
+import java.util.List;
+
+public interface EmployeeBatchPersistence {
+    void insertAll(List<EmployeeEntity> employees);
+}
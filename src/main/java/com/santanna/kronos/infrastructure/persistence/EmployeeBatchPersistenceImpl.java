@@ -0,0 +1,28 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class EmployeeBatchPersistenceImpl implements EmployeeBatchPersistence {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Os INSERTs são agrupados em lotes JDBC de hibernate.jdbc.batch_size; a empresa entra apenas como referência
+    // e o contexto de persistência é limpo ao final para não acumular entidades entre lotes
+    @Override
+    @Transactional
+    public void insertAll(List<EmployeeEntity> employees) {
+        for (EmployeeEntity employee : employees) {
+            employee.setCompany(entityManager.getReference(CompanyEntity.class, employee.getCompany().getId()));
+            entityManager.persist(employee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,8 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface EmployeePatchPersistence {
+    int updateColumns(UUID idEmployee, Map<String, ?> changes);
+}
@@ -0,0 +1,21 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class EmployeePatchPersistenceImpl implements EmployeePatchPersistence {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateColumns(UUID idEmployee, Map<String, ?> changes) {
+        return PartialUpdate.execute(entityManager, EmployeeEntity.class, "idEmployee", idEmployee, changes);
+    }
+}
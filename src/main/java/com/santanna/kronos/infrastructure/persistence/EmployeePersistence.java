@@ -1,14 +1,89 @@
 package com.santanna.kronos.infrastructure.persistence;
 
 import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+import com.santanna.kronos.infrastructure.persistence.projection.EmployeeChangeView;
+import com.santanna.kronos.infrastructure.persistence.projection.EmployeeView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeePersistence extends JpaRepository<EmployeeEntity, UUID> {
-    Optional<EmployeeEntity> findByCpf(String cpf);
+public interface EmployeePersistence extends JpaRepository<EmployeeEntity, UUID>, EmployeeBatchPersistence,
+        EmployeePatchPersistence, EmployeeSearchPersistence {
+    // Plano de leitura único: colaborador + nome da empresa num só SELECT, sem carregar entidades
+    String VIEW_SELECT = "SELECT e.idEmployee AS idEmployee, e.cpf AS cpf, e.name AS name, e.surname AS surname, " +
+            "e.email AS email, e.salary AS salary, e.position AS position, c.nameCompany AS nameCompany, " +
+            "e.changeSeq AS changeSeq FROM EmployeeEntity e JOIN e.company c ";
+
+    @Query(VIEW_SELECT + "WHERE e.idEmployee = :id")
+    Optional<EmployeeView> findViewById(@Param("id") UUID id);
+
+    @Query(VIEW_SELECT + "WHERE e.cpf = :cpf")
+    Optional<EmployeeView> findViewByCpf(@Param("cpf") String cpf);
+
+    @Query(value = VIEW_SELECT + "ORDER BY e.idEmployee", countQuery = "SELECT COUNT(e) FROM EmployeeEntity e")
+    Page<EmployeeView> findViewPage(Pageable pageable);
+
+    @Query(VIEW_SELECT + "ORDER BY e.idEmployee")
+    List<EmployeeView> findViews(Limit limit);
+
+    @Query(VIEW_SELECT + "WHERE e.idEmployee > :after ORDER BY e.idEmployee")
+    List<EmployeeView> findViewsAfter(@Param("after") UUID after, Limit limit);
+
+    // Keyset por (company_id, id_employee): cada página é uma busca em idx_employee_company_keyset seguida da leitura
+    // de no máximo size + 1 linhas, independente da posição. A página é limitada (CursorPage.checkPageSize), então
+    // vem como lista; a empresa inteira com memória constante é a exportação (streamForExport)
+    @Query(VIEW_SELECT + "WHERE e.company.id = :companyId ORDER BY e.idEmployee")
+    List<EmployeeView> findViewsByCompany(@Param("companyId") UUID companyId, Limit limit);
+
+    @Query(VIEW_SELECT + "WHERE e.company.id = :companyId AND e.idEmployee > :after ORDER BY e.idEmployee")
+    List<EmployeeView> findViewsByCompanyAfter(@Param("companyId") UUID companyId, @Param("after") UUID after,
+                                               Limit limit);
+
+    // Feed de alterações: busca no índice (change_seq, id_employee) a partir do token, até o limite já estável
+    String CHANGE_SELECT = "SELECT e.idEmployee AS idEmployee, e.cpf AS cpf, e.name AS name, e.surname AS surname, " +
+            "e.email AS email, e.salary AS salary, e.position AS position, c.nameCompany AS nameCompany, " +
+            "e.changeSeq AS changeSeq, e.createdSeq AS createdSeq FROM EmployeeEntity e JOIN e.company c ";
+
+    @Query(CHANGE_SELECT + "WHERE e.changeSeq <= :upTo ORDER BY e.changeSeq, e.idEmployee")
+    List<EmployeeChangeView> findChanges(@Param("upTo") long upTo, Limit limit);
+
+    @Query(CHANGE_SELECT + "WHERE e.changeSeq <= :upTo " +
+            "AND (e.changeSeq > :seq OR (e.changeSeq = :seq AND e.idEmployee > :after)) " +
+            "ORDER BY e.changeSeq, e.idEmployee")
+    List<EmployeeChangeView> findChangesAfter(@Param("seq") long seq, @Param("after") UUID after,
+                                              @Param("upTo") long upTo, Limit limit);
+
+    // Apenas a versão, pela chave primária: confere o If-None-Match sem montar a projeção
+    @Query("SELECT e.changeSeq FROM EmployeeEntity e WHERE e.idEmployee = :id")
+    Optional<Long> findChangeSeqById(@Param("id") UUID id);
+
+    // Apenas a FK: não junta tb_company
+    @Query("SELECT e.company.id FROM EmployeeEntity e WHERE e.idEmployee = :id")
+    Optional<UUID> findCompanyIdById(@Param("id") UUID id);
+
+    @Query("SELECT e.cpf FROM EmployeeEntity e WHERE e.cpf IN :cpfs")
+    List<String> findCpfsIn(@Param("cpfs") Collection<String> cpfs);
+
+    // Leitura somente-avante: projeção fora do contexto de persistência, buscada em blocos do driver
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(VIEW_SELECT + "WHERE :cnpj IS NULL OR c.cnpj = :cnpj")
+    Stream<EmployeeView> streamForExport(@Param("cnpj") String cnpj);
 
 }
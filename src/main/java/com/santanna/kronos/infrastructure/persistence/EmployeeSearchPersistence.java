@@ -0,0 +1,10 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.domain.model.EmployeeFilter;
+import com.santanna.kronos.infrastructure.persistence.projection.EmployeeView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface EmployeeSearchPersistence {
+    Page<EmployeeView> search(EmployeeFilter filter, Pageable pageable);
+}
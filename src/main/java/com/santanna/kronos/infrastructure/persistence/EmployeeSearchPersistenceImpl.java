@@ -0,0 +1,119 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.domain.common.Money;
+import com.santanna.kronos.domain.model.EmployeeFilter;
+import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+import com.santanna.kronos.infrastructure.persistence.projection.EmployeeView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Filtros combinados em tempo de execução; cada combinação usual tem um índice composto em tb_employee (V2)
+public class EmployeeSearchPersistenceImpl implements EmployeeSearchPersistence {
+    private static final char LIKE_ESCAPE = '!';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<EmployeeView> search(EmployeeFilter filter, Pageable pageable) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var employee = query.from(EmployeeEntity.class);
+        var company = employee.join("company");
+        query.multiselect(
+                employee.get("idEmployee"), employee.get("cpf"), employee.get("name"), employee.get("surname"),
+                employee.get("email"), employee.get("salary"), employee.get("position"), company.get("nameCompany"),
+                employee.get("changeSeq"));
+        query.where(predicates(cb, employee, filter));
+        query.orderBy(order(cb, employee, filter));
+
+        List<EmployeeView> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList().stream()
+                .map(EmployeeSearchPersistenceImpl::toView)
+                .toList();
+        // O count só é executado quando a página veio cheia ou não é a primeira
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+    }
+
+    // Conta no máximo MAX_RESULTS ids no índice do filtro, em vez de um count(*) sobre toda a faixa
+    private long count(EmployeeFilter filter) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(UUID.class);
+        var employee = query.from(EmployeeEntity.class);
+        query.select(employee.get("idEmployee")).where(predicates(cb, employee, filter));
+        return entityManager.createQuery(query).setMaxResults(EmployeeFilter.MAX_RESULTS).getResultList().size();
+    }
+
+    private static Predicate[] predicates(CriteriaBuilder cb, Root<EmployeeEntity> employee, EmployeeFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getCompanyId() != null) {
+            // Compara a FK direto, sem JOIN
+            predicates.add(cb.equal(employee.get("company").get("id"), filter.getCompanyId()));
+        }
+        if (filter.getPosition() != null) {
+            predicates.add(cb.equal(employee.get("position"), filter.getPosition()));
+        }
+        if (filter.getMinSalaryCents() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(employee.get("salary"), Money.toDecimal(filter.getMinSalaryCents())));
+        }
+        if (filter.getMaxSalaryCents() != null) {
+            predicates.add(cb.lessThanOrEqualTo(employee.get("salary"), Money.toDecimal(filter.getMaxSalaryCents())));
+        }
+        if (filter.getNamePrefix() != null) {
+            // Prefixo sem curinga à esquerda: o índice de name continua utilizável
+            predicates.add(cb.like(employee.get("name"), escapeLike(filter.getNamePrefix()) + "%", LIKE_ESCAPE));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private static List<Order> order(CriteriaBuilder cb, Root<EmployeeEntity> employee, EmployeeFilter filter) {
+        var column = switch (filter.getSort()) {
+            case NAME -> employee.get("name");
+            case SALARY -> employee.get("salary");
+            case POSITION -> employee.get("position");
+        };
+        var id = employee.get("idEmployee");
+        return filter.isDescending()
+                ? List.of(cb.desc(column), cb.desc(id))
+                : List.of(cb.asc(column), cb.asc(id));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static EmployeeView toView(Tuple tuple) {
+        return new Row(tuple.get(0, UUID.class), tuple.get(1, String.class), tuple.get(2, String.class),
+                tuple.get(3, String.class), tuple.get(4, String.class), tuple.get(5, BigDecimal.class),
+                tuple.get(6, String.class), tuple.get(7, String.class), tuple.get(8, Long.class));
+    }
+
+    @Value
+    private static class Row implements EmployeeView {
+        UUID idEmployee;
+        String cpf;
+        String name;
+        String surname;
+        String email;
+        BigDecimal salary;
+        String position;
+        String nameCompany;
+        long changeSeq;
+    }
+}
@@ -0,0 +1,53 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.infrastructure.entity.EmployeeTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmployeeTombstonePersistence extends JpaRepository<EmployeeTombstoneEntity, UUID> {
+
+    // Lápides gravadas por INSERT ... SELECT antes do DELETE correspondente, na mesma transação:
+    // só entram ids que existem e nenhuma linha é carregada. O CAST tipa o parâmetro da lista do SELECT
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO EmployeeTombstoneEntity (idEmployee, deletedSeq) " +
+            "SELECT e.idEmployee, CAST(:seq AS Long) FROM EmployeeEntity e WHERE e.idEmployee = :id")
+    int insertForEmployee(@Param("id") UUID id, @Param("seq") long seq);
+
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO EmployeeTombstoneEntity (idEmployee, deletedSeq) " +
+            "SELECT e.idEmployee, CAST(:seq AS Long) FROM EmployeeEntity e WHERE e.idEmployee IN :ids")
+    int insertForEmployees(@Param("ids") Collection<UUID> ids, @Param("seq") long seq);
+
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO EmployeeTombstoneEntity (idEmployee, deletedSeq) " +
+            "SELECT e.idEmployee, CAST(:seq AS Long) FROM EmployeeEntity e WHERE e.company.id = :companyId")
+    int insertForCompany(@Param("companyId") UUID companyId, @Param("seq") long seq);
+
+    // Os ids excluídos por um DELETE em lote: as lápides gravadas com a sequência dele, pelo índice de deleted_seq
+    @Query("SELECT t.idEmployee FROM EmployeeTombstoneEntity t WHERE t.deletedSeq = :seq")
+    List<UUID> findIdsDeletedAt(@Param("seq") long seq);
+
+    @Query("SELECT t FROM EmployeeTombstoneEntity t WHERE t.deletedSeq <= :upTo " +
+            "AND (t.deletedSeq > :seq OR (t.deletedSeq = :seq AND t.idEmployee > :after)) " +
+            "ORDER BY t.deletedSeq, t.idEmployee")
+    List<EmployeeTombstoneEntity> findAfter(@Param("seq") long seq, @Param("after") UUID after,
+                                            @Param("upTo") long upTo, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmployeeTombstoneEntity t WHERE t.deletedSeq < :before")
+    int deleteOlderThan(@Param("before") long before);
+}
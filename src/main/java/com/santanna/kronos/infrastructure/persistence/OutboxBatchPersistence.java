@@ -0,0 +1,9 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.infrastructure.entity.OutboxEventEntity;
+
+import java.util.List;
+
+public interface OutboxBatchPersistence {
+    void insertAll(List<OutboxEventEntity> events);
+}
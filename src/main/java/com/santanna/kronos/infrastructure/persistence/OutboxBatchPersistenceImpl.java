@@ -0,0 +1,60 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.infrastructure.entity.OutboxEventEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+
+public class OutboxBatchPersistenceImpl implements OutboxBatchPersistence {
+    private static final String INSERT = """
+            INSERT INTO tb_outbox_event (aggregate_type, aggregate_id, event_type, changed_fields, occurred_at)
+            VALUES (?, ?, ?, ?, ?)""";
+    private static final int BATCH = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Com id IDENTITY o Hibernate grava uma linha por INSERT; aqui o lote vai direto pelo JDBC, na conexão
+    // (e na transação) da sessão atual
+    @Override
+    @Transactional
+    public void insertAll(List<OutboxEventEntity> events) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (var statement = connection.prepareStatement(INSERT)) {
+                int pending = 0;
+                for (var event : events) {
+                    statement.setString(1, event.getAggregateType());
+                    statement.setBytes(2, bytes(event.getAggregateId()));
+                    statement.setString(3, event.getType());
+                    if (event.getChangedFields() != null) {
+                        statement.setString(4, event.getChangedFields());
+                    } else {
+                        statement.setNull(4, Types.VARCHAR);
+                    }
+                    statement.setLong(5, event.getOccurredAt());
+                    statement.addBatch();
+                    if (++pending == BATCH) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,24 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.infrastructure.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxPersistence extends JpaRepository<OutboxEventEntity, Long>, OutboxBatchPersistence {
+
+    // FOR UPDATE nos primeiros eventos: outra instância do relay espera o lote atual terminar em vez de
+    // publicar os mesmos eventos fora de ordem
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEventEntity e ORDER BY e.id")
+    List<OutboxEventEntity> findPendingForUpdate(Limit limit);
+
+    @Query("SELECT e.occurredAt FROM OutboxEventEntity e ORDER BY e.id")
+    List<Long> findOccurredAt(Limit limit);
+}
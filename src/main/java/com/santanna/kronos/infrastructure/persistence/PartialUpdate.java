@@ -0,0 +1,26 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.domain.common.ChangeSequence;
+import jakarta.persistence.EntityManager;
+
+import java.util.Map;
+
+final class PartialUpdate {
+    static final String CHANGE_SEQ = "changeSeq";
+
+    private PartialUpdate() {
+    }
+
+    // Gera UPDATE <tabela> SET <apenas as colunas informadas> WHERE <id> = ?, sem carregar a entidade.
+    // O UPDATE em massa não dispara @PreUpdate: a sequência de modificação entra junto com as colunas
+    static <T> int execute(EntityManager entityManager, Class<T> entityType, String idAttribute, Object id,
+                       Map<String, ?> changes) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var update = criteriaBuilder.createCriteriaUpdate(entityType);
+        var root = update.from(entityType);
+        changes.forEach(update::set);
+        update.set(CHANGE_SEQ, ChangeSequence.next());
+        update.where(criteriaBuilder.equal(root.get(idAttribute), id));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
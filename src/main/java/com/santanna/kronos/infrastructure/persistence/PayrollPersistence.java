@@ -0,0 +1,36 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import com.santanna.kronos.infrastructure.entity.PayrollCompanyEntity;
+import com.santanna.kronos.infrastructure.persistence.projection.PayrollCompanyView;
+import com.santanna.kronos.infrastructure.persistence.projection.PayrollPositionView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PayrollPersistence extends JpaRepository<PayrollCompanyEntity, UUID>, PayrollRefreshPersistence {
+    // Uma linha por empresa, lida dos resumos materializados: o custo não depende da quantidade de colaboradores
+    String COMPANY_SELECT = "SELECT c.id AS companyId, c.cnpj AS cnpj, c.nameCompany AS nameCompany, " +
+            "p.headcount AS headcount, p.totalSalary AS totalSalary, p.minSalary AS minSalary, " +
+            "p.maxSalary AS maxSalary, p.medianSalary AS medianSalary, p.p90Salary AS p90Salary " +
+            "FROM CompanyEntity c LEFT JOIN PayrollCompanyEntity p ON p.companyId = c.id ";
+
+    @Query(value = COMPANY_SELECT + "ORDER BY c.id", countQuery = "SELECT COUNT(c) FROM CompanyEntity c")
+    Page<PayrollCompanyView> findCompanySummaries(Pageable pageable);
+
+    @Query(COMPANY_SELECT + "WHERE c.id = :companyId")
+    Optional<PayrollCompanyView> findCompanySummary(@Param("companyId") UUID companyId);
+
+    @Query("SELECT p.companyId AS companyId, p.position AS position, p.headcount AS headcount, " +
+            "p.totalSalary AS totalSalary, p.minSalary AS minSalary, p.maxSalary AS maxSalary, " +
+            "p.medianSalary AS medianSalary, p.p90Salary AS p90Salary " +
+            "FROM PayrollPositionEntity p WHERE p.companyId = :companyId ORDER BY p.position")
+    List<PayrollPositionView> findPositionSummaries(@Param("companyId") UUID companyId);
+}
@@ -0,0 +1,12 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface PayrollRefreshPersistence {
+    void markPending(Collection<UUID> companyIds);
+    void markPendingByEmployee(UUID employeeId);
+    List<UUID> findPendingCompanyIds(int limit);
+    void refreshCompany(UUID companyId);
+}
@@ -0,0 +1,107 @@
+package com.santanna.kronos.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Recalcula os resumos de uma empresa inteiramente no banco: 2 DELETE + 2 INSERT ... SELECT, nenhuma linha de
+// colaborador chega à aplicação. Os percentis seguem o nearest-rank de V4__payroll_summaries.sql.
+// As empresas a recalcular ficam marcadas em tb_payroll_pending (V10__payroll_pending.sql)
+public class PayrollRefreshPersistenceImpl implements PayrollRefreshPersistence {
+    private static final String MARK = "INSERT INTO tb_payroll_pending (company_id) VALUES (:companyId)";
+    // Alterações parciais não leem o colaborador: a empresa sai da própria linha, no mesmo comando
+    private static final String MARK_BY_EMPLOYEE = """
+            INSERT INTO tb_payroll_pending (company_id)
+            SELECT company_id FROM tb_employee WHERE id_employee = :employeeId""";
+    private static final String FIND_PENDING =
+            "SELECT company_id FROM tb_payroll_pending GROUP BY company_id ORDER BY MIN(id)";
+    private static final String PENDING_OF_COMPANY = "SELECT id FROM tb_payroll_pending WHERE company_id = :companyId";
+    private static final String CLEAR_PENDING = "DELETE FROM tb_payroll_pending WHERE id IN (:ids)";
+    private static final String DELETE_COMPANY = "DELETE FROM tb_payroll_company WHERE company_id = :companyId";
+    private static final String DELETE_POSITIONS = "DELETE FROM tb_payroll_position WHERE company_id = :companyId";
+    private static final String INSERT_COMPANY = """
+            INSERT INTO tb_payroll_company (company_id, headcount, total_salary, min_salary, max_salary,
+                                            median_salary, p90_salary)
+            SELECT company_id, COUNT(*), SUM(salary), MIN(salary), MAX(salary),
+                   MIN(CASE WHEN salary_rank >= CEIL(0.5 * group_size) THEN salary END),
+                   MIN(CASE WHEN salary_rank >= CEIL(0.9 * group_size) THEN salary END)
+            FROM (SELECT company_id, salary,
+                         ROW_NUMBER() OVER (ORDER BY salary) AS salary_rank,
+                         COUNT(*) OVER () AS group_size
+                  FROM tb_employee WHERE company_id = :companyId) ranked
+            GROUP BY company_id
+            """;
+    private static final String INSERT_POSITIONS = """
+            INSERT INTO tb_payroll_position (company_id, position, headcount, total_salary, min_salary, max_salary,
+                                             median_salary, p90_salary)
+            SELECT company_id, position, COUNT(*), SUM(salary), MIN(salary), MAX(salary),
+                   MIN(CASE WHEN salary_rank >= CEIL(0.5 * group_size) THEN salary END),
+                   MIN(CASE WHEN salary_rank >= CEIL(0.9 * group_size) THEN salary END)
+            FROM (SELECT company_id, COALESCE(position, '') AS position, salary,
+                         ROW_NUMBER() OVER (PARTITION BY COALESCE(position, '') ORDER BY salary) AS salary_rank,
+                         COUNT(*) OVER (PARTITION BY COALESCE(position, '')) AS group_size
+                  FROM tb_employee WHERE company_id = :companyId) ranked
+            GROUP BY company_id, position
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void markPending(Collection<UUID> companyIds) {
+        for (var companyId : companyIds) {
+            entityManager.createNativeQuery(MARK).setParameter("companyId", bytes(companyId)).executeUpdate();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markPendingByEmployee(UUID employeeId) {
+        entityManager.createNativeQuery(MARK_BY_EMPLOYEE).setParameter("employeeId", bytes(employeeId))
+                .executeUpdate();
+    }
+
+    @Override
+    public List<UUID> findPendingCompanyIds(int limit) {
+        List<?> rows = entityManager.createNativeQuery(FIND_PENDING).setMaxResults(limit).getResultList();
+        return rows.stream().map(row -> uuid((byte[]) row)).collect(Collectors.toList());
+    }
+
+    // Apaga só as marcações lidas antes do recálculo: a escrita confirmada depois disso pode não ter entrado nos
+    // resumos, e a marcação dela fica para a próxima rodada. Se o recálculo falhar, nenhuma marcação é apagada
+    @Override
+    @Transactional
+    public void refreshCompany(UUID companyId) {
+        // A coluna é BINARY(16): o id vai como bytes para o plano usar o índice em qualquer dialeto
+        var id = bytes(companyId);
+        List<?> pending = entityManager.createNativeQuery(PENDING_OF_COMPANY).setParameter("companyId", id)
+                .getResultList();
+        for (var sql : new String[]{DELETE_COMPANY, DELETE_POSITIONS, INSERT_COMPANY, INSERT_POSITIONS}) {
+            entityManager.createNativeQuery(sql).setParameter("companyId", id).executeUpdate();
+        }
+        if (!pending.isEmpty()) {
+            entityManager.createNativeQuery(CLEAR_PENDING)
+                    .setParameter("ids", pending.stream().map(row -> ((Number) row).longValue()).toList())
+                    .executeUpdate();
+        }
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID uuid(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -1,35 +1,110 @@
 package com.santanna.kronos.infrastructure.persistence.impl;
 
+import com.santanna.kronos.domain.common.ChangeSequence;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
 import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.model.CompanyPatch;
+import com.santanna.kronos.domain.model.CompanySummary;
+import com.santanna.kronos.domain.exception.DuplicatedEntryException;
 import com.santanna.kronos.domain.repository.CompanyRepository;
+import com.santanna.kronos.infrastructure.configuration.CacheConfig;
+import com.santanna.kronos.infrastructure.configuration.MetricsConfig;
+import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import com.santanna.kronos.infrastructure.exception.ConstraintViolations;
 import com.santanna.kronos.infrastructure.exception.DatabaseException;
 import com.santanna.kronos.infrastructure.mapper.ConverterDomainEntity;
 import com.santanna.kronos.infrastructure.persistence.CompanyPersistence;
+import com.santanna.kronos.infrastructure.persistence.EmployeeTombstonePersistence;
+import com.santanna.kronos.infrastructure.persistence.projection.CompanyKeyView;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
+@Timed(MetricsConfig.REPOSITORY)
 public class CompanyImpl implements CompanyRepository {
     public static final String COMPANY_ID_NOT_FOUND = "Error company ID not found: ";
     public static final String COMPANY_CNPJ_NOT_FOUND = "Error company CNPJ not found: ";
+    public static final String ERROR_LISTING_COMPANIES = "Error listing companies";
     public static final String ERROR_SAVING_COMPANY = "Error saving Company";
     public static final String ERROR_DELETING_EMPLOYEE = "Error deleting employee";
     private final CompanyPersistence companyPersistence;
+    private final EmployeeTombstonePersistence tombstonePersistence;
+    private final Timer companyMappingTimer;
+    private final DistributionSummary loadedEmployees;
 
-    public CompanyImpl(CompanyPersistence companyPersistence) {
+    public CompanyImpl(CompanyPersistence companyPersistence, EmployeeTombstonePersistence tombstonePersistence,
+                       MeterRegistry registry) {
         this.companyPersistence = companyPersistence;
+        this.tombstonePersistence = tombstonePersistence;
+        this.companyMappingTimer = Timer.builder(MetricsConfig.MAPPER)
+                .tag("mapping", "company")
+                .register(registry);
+        this.loadedEmployees = DistributionSummary.builder(MetricsConfig.COMPANY_EMPLOYEES_LOADED)
+                .description("Colaboradores carregados junto com a empresa")
+                .baseUnit("rows")
+                .register(registry);
     }
 
     @Override
     public Optional<Company> findCompany(UUID companyId) {
         try {
-            return companyPersistence.findByIdWithEmployees(companyId).map(ConverterDomainEntity::toDomain);
+            return companyPersistence.findByIdWithEmployees(companyId).map(this::toDomainWithEmployees);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(COMPANY_ID_NOT_FOUND + companyId, ex);
+        }
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.COMPANIES, key = "#companyId", unless = "#result == null")
+    public Optional<CompanySummary> findCompanySummary(UUID companyId) {
+        try {
+            return companyPersistence.findSummaryById(companyId).map(ConverterDomainEntity::toDomain);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(COMPANY_ID_NOT_FOUND + companyId, ex);
+        }
+    }
+
+    @Override
+    public Optional<CompanySummary> findCompanyVersion(UUID companyId) {
+        try {
+            return companyPersistence.findVersionById(companyId).map(ConverterDomainEntity::toDomain);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(COMPANY_ID_NOT_FOUND + companyId, ex);
+        }
+    }
+
+    @Override
+    public boolean existsCompany(UUID companyId) {
+        try {
+            return companyPersistence.existsById(companyId);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(COMPANY_ID_NOT_FOUND + companyId, ex);
+        }
+    }
+
+    @Override
+    public long countEmployees(UUID companyId) {
+        try {
+            return companyPersistence.countEmployees(companyId);
         } catch (DataAccessException ex) {
             throw new DatabaseException(COMPANY_ID_NOT_FOUND + companyId, ex);
         }
@@ -38,16 +113,36 @@ public class CompanyImpl implements CompanyRepository {
     @Override
     public Optional<Company> findCnpj(String cnpj) {
         try {
-            return companyPersistence.findByCnpj(cnpj).map(ConverterDomainEntity::toDomain);
+            return companyPersistence.findByCnpj(cnpj).map(this::toDomainWithEmployees);
         } catch (DataAccessException ex) {
             throw new DatabaseException(COMPANY_CNPJ_NOT_FOUND + cnpj, ex);
         }
     }
 
     @Override
-    public PaginatedList<Company> findAllCompanies(int page, int size) {
+    public Optional<UUID> findCompanyIdByCnpj(String cnpj) {
         try {
-            var entityPage = companyPersistence.findAll(PageRequest.of(page, size));
+            return companyPersistence.findIdByCnpj(cnpj);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(COMPANY_CNPJ_NOT_FOUND + cnpj, ex);
+        }
+    }
+
+    @Override
+    public Map<String, UUID> findCompanyIdsByCnpj(Collection<String> cnpjs) {
+        try {
+            return companyPersistence.findIdsByCnpjIn(cnpjs).stream()
+                    .collect(Collectors.toMap(CompanyKeyView::getCnpj, CompanyKeyView::getId));
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(COMPANY_CNPJ_NOT_FOUND + cnpjs, ex);
+        }
+    }
+
+    @Override
+    public PaginatedList<CompanySummary> findAllCompanies(int page, int size) {
+        PaginatedList.checkPage(page, size);
+        try {
+            var entityPage = companyPersistence.findAllSummaries(PageRequest.of(page, size));
             return new PaginatedList<>(
                     entityPage.getContent().stream().map(ConverterDomainEntity::toDomain)
                             .collect(Collectors.toList()),
@@ -56,27 +151,119 @@ public class CompanyImpl implements CompanyRepository {
                     entityPage.getTotalElements()
             );
         } catch (DataAccessException ex) {
-            throw new DatabaseException(COMPANY_CNPJ_NOT_FOUND, ex);
+            throw new DatabaseException(ERROR_LISTING_COMPANIES, ex);
         }
     }
 
     @Override
-    public void saveCompany(Company company) {
+    public CursorPage<CompanySummary> findCompaniesAfter(UUID after, int size, boolean withTotal) {
+        CursorPage.checkPageSize(size);
+        try {
+            var limit = Limit.of(size + 1);
+            var views = after == null
+                    ? companyPersistence.findSummaries(limit)
+                    : companyPersistence.findSummariesAfter(after, limit);
+            var content = views.stream().limit(size).map(ConverterDomainEntity::toDomain)
+                    .collect(Collectors.toList());
+            var nextCursor = views.size() > size
+                    ? CursorPage.encodeKey(content.get(content.size() - 1).getId())
+                    : null;
+            return new CursorPage<>(content, nextCursor, size, withTotal ? companyPersistence.count() : null);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_LISTING_COMPANIES, ex);
+        }
+    }
+
+    @Override
+    // Colaboradores em cache carregam o nome da empresa
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COMPANIES, key = "#company.id", condition = "#company.id != null"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, allEntries = true, condition = "#company.id != null")
+    })
+    public UUID saveCompany(Company company) {
         try {
             var companyEntity = ConverterDomainEntity.toEntity(company);
-            var savedEntity = this.companyPersistence.save(companyEntity);
-            ConverterDomainEntity.toDomain(savedEntity);
+            // O domínio não recebe o id: as condições de @CacheEvict avaliam company.id depois da chamada
+            return this.companyPersistence.saveAndFlush(companyEntity).getId();
+        } catch (DataIntegrityViolationException ex) {
+            // A unicidade do CNPJ é garantida pela constraint do banco, não por uma leitura prévia
+            if (ConstraintViolations.isViolationOf(ex, CompanyEntity.UK_CNPJ)) {
+                throw new DuplicatedEntryException("Duplicated CNPJ");
+            }
+            throw new DatabaseException(ERROR_SAVING_COMPANY, ex);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_SAVING_COMPANY, ex);
+        }
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COMPANIES, key = "#companyId"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, allEntries = true)
+    })
+    public boolean patchCompany(UUID companyId, CompanyPatch patch) {
+        try {
+            if (patch.isEmpty()) {
+                return companyPersistence.existsById(companyId);
+            }
+            return companyPersistence.updateColumns(companyId, ConverterDomainEntity.toChanges(patch)) > 0;
+        } catch (DataIntegrityViolationException ex) {
+            if (ConstraintViolations.isViolationOf(ex, CompanyEntity.UK_CNPJ)) {
+                throw new DuplicatedEntryException("Duplicated CNPJ");
+            }
+            throw new DatabaseException(ERROR_SAVING_COMPANY, ex);
         } catch (DataAccessException ex) {
             throw new DatabaseException(ERROR_SAVING_COMPANY, ex);
         }
     }
 
     @Override
-    public void deleteCompany(UUID companyId) {
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COMPANIES, key = "#companyId"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, allEntries = true)
+    })
+    public List<UUID> deleteEmployees(UUID companyId, int limit) {
+        try {
+            var ids = companyPersistence.findEmployeeIds(companyId, Limit.of(limit));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            // As lápides do bloco entram na mesma transação do DELETE; só os ids que ainda existiam ganham lápide
+            var seq = ChangeSequence.next();
+            tombstonePersistence.insertForEmployees(ids, seq);
+            var deleted = tombstonePersistence.findIdsDeletedAt(seq);
+            companyPersistence.deleteEmployeesByIds(deleted);
+            return deleted;
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_DELETING_EMPLOYEE, ex);
+        }
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COMPANIES, key = "#companyId"),
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, allEntries = true)
+    })
+    public List<UUID> deleteCompany(UUID companyId) {
         try {
-            companyPersistence.deleteById(companyId);
+            // Os colaboradores restantes saem num único DELETE por company_id antes da empresa, cada um com a
+            // sua lápide para o feed de alterações
+            var seq = ChangeSequence.next();
+            tombstonePersistence.insertForCompany(companyId, seq);
+            companyPersistence.deleteEmployeesByCompanyId(companyId);
+            companyPersistence.deleteCompanyById(companyId);
+            return tombstonePersistence.findIdsDeletedAt(seq);
         } catch (DataAccessException ex) {
             throw new DatabaseException(ERROR_DELETING_EMPLOYEE, ex);
         }
     }
+
+    // Mede a conversão da empresa com a coleção de colaboradores e registra quantos foram carregados
+    private Company toDomainWithEmployees(CompanyEntity entity) {
+        var company = companyMappingTimer.record(() -> ConverterDomainEntity.toDomain(entity));
+        loadedEmployees.record(company.getEmployees().size());
+        return company;
+    }
 }
@@ -1,33 +1,80 @@
 package com.santanna.kronos.infrastructure.persistence.impl;
 
+import com.santanna.kronos.domain.common.ChangeSequence;
+import com.santanna.kronos.domain.common.ChangeToken;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
 import com.santanna.kronos.domain.model.Employee;
+import com.santanna.kronos.domain.model.EmployeeChange;
+import com.santanna.kronos.domain.model.EmployeeFilter;
+import com.santanna.kronos.domain.model.EmployeePatch;
+import com.santanna.kronos.domain.exception.DuplicatedEntryException;
 import com.santanna.kronos.domain.repository.EmployeeRepository;
+import com.santanna.kronos.infrastructure.configuration.CacheConfig;
+import com.santanna.kronos.infrastructure.configuration.MetricsConfig;
+import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+import com.santanna.kronos.infrastructure.exception.ConstraintViolations;
 import com.santanna.kronos.infrastructure.exception.DatabaseException;
 import com.santanna.kronos.infrastructure.mapper.ConverterDomainEntity;
+import com.santanna.kronos.infrastructure.persistence.CompanyPersistence;
 import com.santanna.kronos.infrastructure.persistence.EmployeePersistence;
+import com.santanna.kronos.infrastructure.persistence.EmployeeTombstonePersistence;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@Timed(MetricsConfig.REPOSITORY)
 public class EmployeeImpl implements EmployeeRepository {
 
+    // Mesma ordem do índice: sequência e depois os bytes do id, sem sinal como no BINARY(16)
+    private static final Comparator<EmployeeChange> FEED_ORDER = Comparator
+            .comparingLong(EmployeeChange::getSequence)
+            .thenComparing(EmployeeChange::getIdEmployee, (a, b) -> {
+                int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+                return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+            });
+
     private final EmployeePersistence employeePersistence;
+    private final CompanyPersistence companyPersistence;
+    private final EmployeeTombstonePersistence tombstonePersistence;
 
-    public EmployeeImpl(EmployeePersistence employeePersistence) {
+    public EmployeeImpl(EmployeePersistence employeePersistence, CompanyPersistence companyPersistence,
+                        EmployeeTombstonePersistence tombstonePersistence) {
         this.employeePersistence = employeePersistence;
-
+        this.companyPersistence = companyPersistence;
+        this.tombstonePersistence = tombstonePersistence;
     }
 
     @Override
     public Optional<Employee> findEmployee(UUID employeeId) {
         try {
-            return employeePersistence.findById(employeeId).map(ConverterDomainEntity::toDomain);
+            return employeePersistence.findViewById(employeeId).map(ConverterDomainEntity::toDomain);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error employee ID not found: " + employeeId, ex);
+        }
+    }
+
+    @Override
+    public Optional<Long> findEmployeeVersion(UUID employeeId) {
+        try {
+            return employeePersistence.findChangeSeqById(employeeId);
         } catch (DataAccessException ex) {
             throw new DatabaseException("Error employee ID not found: " + employeeId, ex);
         }
@@ -36,16 +83,35 @@ public class EmployeeImpl implements EmployeeRepository {
     @Override
     public Optional<Employee> findCpf(String cpf) {
         try {
-            return employeePersistence.findByCpf(cpf).map(ConverterDomainEntity::toDomain);
+            return employeePersistence.findViewByCpf(cpf).map(ConverterDomainEntity::toDomain);
         } catch (DatabaseException ex) {
             throw new DatabaseException("Error CPF not found: " + cpf, ex);
         }
     }
 
+    @Override
+    public Optional<UUID> findCompanyId(UUID employeeId) {
+        try {
+            return employeePersistence.findCompanyIdById(employeeId);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error employee ID not found: " + employeeId, ex);
+        }
+    }
+
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        try {
+            return new HashSet<>(employeePersistence.findCpfsIn(cpfs));
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error checking CPFs", ex);
+        }
+    }
+
     @Override
     public PaginatedList<Employee> findAllEmployees(int page, int size) {
+        PaginatedList.checkPage(page, size);
         try {
-            var entityPage = employeePersistence.findAll(PageRequest.of(page, size));
+            var entityPage = employeePersistence.findViewPage(PageRequest.of(page, size));
             return new PaginatedList<>(
                     entityPage.getContent().stream().map(ConverterDomainEntity::toDomain)
                             .collect(Collectors.toList()),
@@ -59,23 +125,172 @@ public class EmployeeImpl implements EmployeeRepository {
     }
 
     @Override
-    public Employee saveEmployee(Employee employee) {
+    public PaginatedList<Employee> searchEmployees(EmployeeFilter filter, int page, int size) {
+        PaginatedList.checkPage(page, size);
+        try {
+            var viewPage = employeePersistence.search(filter, PageRequest.of(page, size));
+            return new PaginatedList<>(
+                    viewPage.getContent().stream().map(ConverterDomainEntity::toDomain)
+                            .collect(Collectors.toList()),
+                    viewPage.getNumber(),
+                    viewPage.getSize(),
+                    viewPage.getTotalElements()
+            );
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error! Employees not found", ex);
+        }
+    }
+
+    @Override
+    public void streamEmployees(String cnpj, Consumer<Employee> consumer) {
+        try (var rows = employeePersistence.streamForExport(cnpj)) {
+            rows.map(ConverterDomainEntity::toDomain).forEach(consumer);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error! Employees not found", ex);
+        }
+    }
+
+    @Override
+    public CursorPage<Employee> findEmployeesAfter(UUID after, int size, boolean withTotal) {
+        CursorPage.checkPageSize(size);
+        try {
+            // Busca um registro a mais para saber se existe próxima página, sem OFFSET nem count(*)
+            var limit = Limit.of(size + 1);
+            var entities = after == null
+                    ? employeePersistence.findViews(limit)
+                    : employeePersistence.findViewsAfter(after, limit);
+            var content = entities.stream().limit(size).map(ConverterDomainEntity::toDomain)
+                    .collect(Collectors.toList());
+            var nextCursor = entities.size() > size
+                    ? CursorPage.encodeKey(content.get(content.size() - 1).getIdEmployee())
+                    : null;
+            return new CursorPage<>(content, nextCursor, size, withTotal ? employeePersistence.count() : null);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error! Employees not found", ex);
+        }
+    }
+
+    @Override
+    public CursorPage<Employee> findCompanyEmployeesAfter(UUID companyId, UUID after, int size, boolean withTotal) {
+        CursorPage.checkPageSize(size);
+        try {
+            var limit = Limit.of(size + 1);
+            var views = after == null
+                    ? employeePersistence.findViewsByCompany(companyId, limit)
+                    : employeePersistence.findViewsByCompanyAfter(companyId, after, limit);
+            var content = views.stream().limit(size).map(ConverterDomainEntity::toDomain)
+                    .collect(Collectors.toList());
+            var nextCursor = views.size() > size
+                    ? CursorPage.encodeKey(content.get(content.size() - 1).getIdEmployee())
+                    : null;
+            return new CursorPage<>(content, nextCursor, size,
+                    withTotal ? companyPersistence.countEmployees(companyId) : null);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error! Employees not found", ex);
+        }
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#employeeId")
+    public boolean patchEmployee(UUID employeeId, EmployeePatch patch) {
+        try {
+            if (patch.isEmpty()) {
+                return employeePersistence.existsById(employeeId);
+            }
+            return employeePersistence.updateColumns(employeeId, ConverterDomainEntity.toChanges(patch)) > 0;
+        } catch (DataIntegrityViolationException ex) {
+            throw duplicatedOrDatabaseException(ex);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error saving employee", ex);
+        }
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.COMPANIES, key = "#companyId")
+    public Employee insertEmployee(Employee employee, UUID companyId) {
         try {
             var employeeEntity = ConverterDomainEntity.toEntity(employee);
-            var savedEntity = this.employeePersistence.save(employeeEntity);
-            return ConverterDomainEntity.toDomain(savedEntity);
+            // Referência sem SELECT: apenas a FK company_id é gravada, os demais funcionários não são tocados
+            employeeEntity.setCompany(companyPersistence.getReferenceById(companyId));
+            var savedEntity = this.employeePersistence.saveAndFlush(employeeEntity);
+            employee.setIdEmployee(savedEntity.getIdEmployee());
+            return employee;
+        } catch (DataIntegrityViolationException ex) {
+            throw duplicatedOrDatabaseException(ex);
         } catch (DataAccessException ex) {
             throw new DatabaseException("Error saving employee", ex);
         }
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.COMPANIES, allEntries = true)
+    public void insertEmployees(List<Employee> employees) {
+        try {
+            var entities = employees.stream().map(ConverterDomainEntity::toEntity).collect(Collectors.toList());
+            employeePersistence.insertAll(entities);
+            // Os ids gerados no persist voltam para o domínio, na mesma ordem
+            for (int i = 0; i < employees.size(); i++) {
+                employees.get(i).setIdEmployee(entities.get(i).getIdEmployee());
+            }
+        } catch (DataIntegrityViolationException ex) {
+            throw duplicatedOrDatabaseException(ex);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error saving employees", ex);
+        }
+    }
+
+    @Override
+    // A empresa do colaborador não é conhecida aqui; o cache de empresas guarda apenas resumos
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#employeeId"),
+            @CacheEvict(cacheNames = CacheConfig.COMPANIES, allEntries = true)
+    })
     public void deleteEmployee(UUID employeeId) {
         try {
+            tombstonePersistence.insertForEmployee(employeeId, ChangeSequence.next());
             employeePersistence.deleteById(employeeId);
         } catch (DataAccessException ex) {
             throw new DatabaseException("Error deleting employee", ex);
         }
     }
 
+    @Override
+    public List<EmployeeChange> findEmployeeChanges(ChangeToken since, long upTo, int limit) {
+        try {
+            // Sem token o cliente ainda não tem nada: as lápides não interessam
+            if (since == null) {
+                return employeePersistence.findChanges(upTo, Limit.of(limit)).stream()
+                        .map(view -> ConverterDomainEntity.toChange(view, null))
+                        .collect(Collectors.toList());
+            }
+            // Cada origem traz no máximo limit itens na ordem do feed; a intercalação fica com os primeiros limit
+            var rows = employeePersistence.findChangesAfter(since.sequence(), since.id(), upTo, Limit.of(limit));
+            var tombstones = tombstonePersistence.findAfter(since.sequence(), since.id(), upTo, Limit.of(limit));
+            return Stream.concat(
+                            rows.stream().map(view -> ConverterDomainEntity.toChange(view, since)),
+                            tombstones.stream().map(ConverterDomainEntity::toChange))
+                    .sorted(FEED_ORDER)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error reading employee changes", ex);
+        }
+    }
+
+    @Override
+    public int purgeTombstones(long before) {
+        try {
+            return tombstonePersistence.deleteOlderThan(before);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error purging employee tombstones", ex);
+        }
+    }
+
+    // A unicidade do CPF é garantida pela constraint do banco, não por uma leitura prévia
+    private static RuntimeException duplicatedOrDatabaseException(DataIntegrityViolationException ex) {
+        if (ConstraintViolations.isViolationOf(ex, EmployeeEntity.UK_CPF)) {
+            return new DuplicatedEntryException("Duplicated CPF");
+        }
+        return new DatabaseException("Error saving employee", ex);
+    }
 }
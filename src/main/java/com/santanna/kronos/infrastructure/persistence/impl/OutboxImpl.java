@@ -0,0 +1,86 @@
+package com.santanna.kronos.infrastructure.persistence.impl;
+
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.repository.OutboxRepository;
+import com.santanna.kronos.infrastructure.configuration.MetricsConfig;
+import com.santanna.kronos.infrastructure.exception.DatabaseException;
+import com.santanna.kronos.infrastructure.mapper.ConverterDomainEntity;
+import com.santanna.kronos.infrastructure.persistence.OutboxPersistence;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Component
+@Timed(MetricsConfig.REPOSITORY)
+public class OutboxImpl implements OutboxRepository {
+    public static final String ERROR_SAVING_EVENT = "Error saving change event";
+    public static final String ERROR_READING_EVENTS = "Error reading change events";
+
+    private final OutboxPersistence outboxPersistence;
+
+    public OutboxImpl(OutboxPersistence outboxPersistence) {
+        this.outboxPersistence = outboxPersistence;
+    }
+
+    @Override
+    public void append(ChangeEvent event) {
+        try {
+            outboxPersistence.save(ConverterDomainEntity.toEntity(event));
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_SAVING_EVENT, ex);
+        }
+    }
+
+    @Override
+    public void appendAll(List<ChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            outboxPersistence.insertAll(events.stream().map(ConverterDomainEntity::toEntity)
+                    .collect(Collectors.toList()));
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_SAVING_EVENT, ex);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<ChangeEvent> publishPending(int limit, Consumer<List<ChangeEvent>> publisher) {
+        List<ChangeEvent> events;
+        try {
+            events = outboxPersistence.findPendingForUpdate(Limit.of(limit)).stream()
+                    .map(ConverterDomainEntity::toDomain)
+                    .collect(Collectors.toList());
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_READING_EVENTS, ex);
+        }
+        if (events.isEmpty()) {
+            return events;
+        }
+        publisher.accept(events);
+        try {
+            outboxPersistence.deleteAllByIdInBatch(events.stream().map(ChangeEvent::getId).toList());
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error deleting published change events", ex);
+        }
+        return events;
+    }
+
+    @Override
+    public Optional<Instant> findOldestPending() {
+        try {
+            return outboxPersistence.findOccurredAt(Limit.of(1)).stream().findFirst().map(Instant::ofEpochMilli);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_READING_EVENTS, ex);
+        }
+    }
+}
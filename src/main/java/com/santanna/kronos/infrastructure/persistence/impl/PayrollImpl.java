@@ -0,0 +1,105 @@
+package com.santanna.kronos.infrastructure.persistence.impl;
+
+import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.domain.model.PayrollSummary;
+import com.santanna.kronos.domain.repository.PayrollRepository;
+import com.santanna.kronos.infrastructure.configuration.MetricsConfig;
+import com.santanna.kronos.infrastructure.exception.DatabaseException;
+import com.santanna.kronos.infrastructure.mapper.ConverterDomainEntity;
+import com.santanna.kronos.infrastructure.persistence.PayrollPersistence;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@Timed(MetricsConfig.REPOSITORY)
+public class PayrollImpl implements PayrollRepository {
+    public static final String PAYROLL_NOT_FOUND = "Error! Payroll summaries not found";
+    public static final String ERROR_MARKING = "Error marking payroll summaries as stale";
+    public static final String ERROR_READING_MARKS = "Error reading stale payroll summaries";
+
+    private final PayrollPersistence payrollPersistence;
+
+    public PayrollImpl(PayrollPersistence payrollPersistence) {
+        this.payrollPersistence = payrollPersistence;
+    }
+
+    @Override
+    public PaginatedList<PayrollSummary> findCompanySummaries(int page, int size) {
+        PaginatedList.checkPage(page, size);
+        try {
+            var viewPage = payrollPersistence.findCompanySummaries(PageRequest.of(page, size));
+            return new PaginatedList<>(
+                    viewPage.getContent().stream().map(ConverterDomainEntity::toDomain)
+                            .collect(Collectors.toList()),
+                    viewPage.getNumber(),
+                    viewPage.getSize(),
+                    viewPage.getTotalElements()
+            );
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(PAYROLL_NOT_FOUND, ex);
+        }
+    }
+
+    @Override
+    public Optional<PayrollSummary> findCompanySummary(UUID companyId) {
+        try {
+            return payrollPersistence.findCompanySummary(companyId).map(ConverterDomainEntity::toDomain);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(PAYROLL_NOT_FOUND, ex);
+        }
+    }
+
+    @Override
+    public List<PayrollSummary> findPositionSummaries(UUID companyId) {
+        try {
+            return payrollPersistence.findPositionSummaries(companyId).stream().map(ConverterDomainEntity::toDomain)
+                    .collect(Collectors.toList());
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(PAYROLL_NOT_FOUND, ex);
+        }
+    }
+
+    @Override
+    public void markStale(Collection<UUID> companyIds) {
+        try {
+            payrollPersistence.markPending(companyIds);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_MARKING, ex);
+        }
+    }
+
+    @Override
+    public void markStaleByEmployee(UUID employeeId) {
+        try {
+            payrollPersistence.markPendingByEmployee(employeeId);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_MARKING, ex);
+        }
+    }
+
+    @Override
+    public List<UUID> findStaleCompanies(int limit) {
+        try {
+            return payrollPersistence.findPendingCompanyIds(limit);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException(ERROR_READING_MARKS, ex);
+        }
+    }
+
+    @Override
+    public void refreshCompany(UUID companyId) {
+        try {
+            payrollPersistence.refreshCompany(companyId);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Error refreshing payroll summaries of company " + companyId, ex);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.santanna.kronos.infrastructure.persistence.projection;
+
+import java.util.UUID;
+
+public interface CompanyKeyView {
+    UUID getId();
+    String getCnpj();
+}
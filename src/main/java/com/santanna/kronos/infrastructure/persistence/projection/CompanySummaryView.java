@@ -0,0 +1,11 @@
+package com.santanna.kronos.infrastructure.persistence.projection;
+
+import java.util.UUID;
+
+public interface CompanySummaryView {
+    UUID getId();
+    String getCnpj();
+    String getNameCompany();
+    long getEmployeeCount();
+    long getChangeSeq();
+}
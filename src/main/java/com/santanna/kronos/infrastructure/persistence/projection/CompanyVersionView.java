@@ -0,0 +1,9 @@
+package com.santanna.kronos.infrastructure.persistence.projection;
+
+import java.util.UUID;
+
+public interface CompanyVersionView {
+    UUID getId();
+    long getEmployeeCount();
+    long getChangeSeq();
+}
@@ -0,0 +1,6 @@
+package com.santanna.kronos.infrastructure.persistence.projection;
+
+// Colaborador no feed de alterações: as colunas da resposta mais a sequência de criação
+public interface EmployeeChangeView extends EmployeeView {
+    long getCreatedSeq();
+}
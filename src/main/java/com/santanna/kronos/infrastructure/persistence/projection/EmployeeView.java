@@ -0,0 +1,18 @@
+package com.santanna.kronos.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Colunas exatas das respostas de colaborador: a empresa entra apenas pelo nome
+public interface EmployeeView {
+    UUID getIdEmployee();
+    String getCpf();
+    String getName();
+    String getSurname();
+    String getEmail();
+    BigDecimal getSalary();
+    String getPosition();
+    String getNameCompany();
+    // Versão da linha: base do ETag das respostas
+    long getChangeSeq();
+}
@@ -0,0 +1,17 @@
+package com.santanna.kronos.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// Empresa com o resumo de folha; os campos do resumo vêm nulos para empresas sem colaboradores
+public interface PayrollCompanyView {
+    UUID getCompanyId();
+    String getCnpj();
+    String getNameCompany();
+    Long getHeadcount();
+    BigDecimal getTotalSalary();
+    BigDecimal getMinSalary();
+    BigDecimal getMaxSalary();
+    BigDecimal getMedianSalary();
+    BigDecimal getP90Salary();
+}
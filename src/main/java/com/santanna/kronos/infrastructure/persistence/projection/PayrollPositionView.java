@@ -0,0 +1,15 @@
+package com.santanna.kronos.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface PayrollPositionView {
+    UUID getCompanyId();
+    String getPosition();
+    long getHeadcount();
+    BigDecimal getTotalSalary();
+    BigDecimal getMinSalary();
+    BigDecimal getMaxSalary();
+    BigDecimal getMedianSalary();
+    BigDecimal getP90Salary();
+}
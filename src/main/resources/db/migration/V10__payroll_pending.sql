@@ -0,0 +1,12 @@
+-- Empresas com resumo de folha desatualizado. A marcação é gravada na transação da escrita (só existe se ela for
+-- confirmada) e apagada na transação do recálculo, apenas as linhas que ele leu: uma falha no recálculo, ou um
+-- reinício, deixa a empresa marcada, e uma escrita confirmada durante o recálculo fica para a rodada seguinte.
+-- Só INSERT, como o outbox: escritas concorrentes na mesma empresa não disputam linha.
+CREATE TABLE tb_payroll_pending (
+    id         BIGINT     NOT NULL AUTO_INCREMENT,
+    company_id BINARY(16) NOT NULL,
+    CONSTRAINT pk_payroll_pending PRIMARY KEY (id),
+    CONSTRAINT fk_payroll_pending_company FOREIGN KEY (company_id) REFERENCES tb_company (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_payroll_pending_company ON tb_payroll_pending (company_id, id);
@@ -0,0 +1,21 @@
+CREATE TABLE tb_company (
+    id           BINARY(16)   NOT NULL,
+    name_company VARCHAR(255),
+    cnpj         VARCHAR(255),
+    CONSTRAINT pk_company PRIMARY KEY (id),
+    CONSTRAINT uk_company_cnpj UNIQUE (cnpj)
+);
+
+CREATE TABLE tb_employee (
+    id_employee BINARY(16)   NOT NULL,
+    cpf         VARCHAR(255),
+    name        VARCHAR(255),
+    surname     VARCHAR(255),
+    email       VARCHAR(255),
+    salary      DOUBLE,
+    position    VARCHAR(255),
+    company_id  BINARY(16)   NOT NULL,
+    CONSTRAINT pk_employee PRIMARY KEY (id_employee),
+    CONSTRAINT uk_employee_cpf UNIQUE (cpf),
+    CONSTRAINT fk_employee_company FOREIGN KEY (company_id) REFERENCES tb_company (id)
+);
@@ -0,0 +1,8 @@
+-- Índices compostos da busca de colaboradores (GET /v1/employee/search).
+-- A igualdade vem antes do intervalo/ordenação: company_id e position filtram, salary e name ordenam ou delimitam.
+-- Os índices iniciados por company_id também atendem a FK; um índice só de company_id seria redundante.
+CREATE INDEX idx_employee_company_position_salary ON tb_employee (company_id, position, salary);
+CREATE INDEX idx_employee_company_salary ON tb_employee (company_id, salary);
+CREATE INDEX idx_employee_company_name ON tb_employee (company_id, name);
+CREATE INDEX idx_employee_position_salary ON tb_employee (position, salary);
+CREATE INDEX idx_employee_name ON tb_employee (name);
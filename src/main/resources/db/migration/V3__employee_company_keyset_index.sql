@@ -0,0 +1,6 @@
+-- Listagem dos colaboradores de uma empresa (GET /v1/company/{id}/employees).
+-- company_id fixa a faixa e id_employee dá a ordem e o ponto de retomada: cada página é uma busca no índice
+-- seguida da leitura de no máximo size + 1 linhas pela chave primária, qualquer que seja a posição na lista.
+-- O índice não cobre a projeção: cpf, nome, sobrenome, e-mail e cargo (VARCHAR(255) em utf8mb4) passam do limite
+-- de 3072 bytes de uma chave InnoDB. A ordem é explícita para não depender da chave primária embutida pelo InnoDB.
+CREATE INDEX idx_employee_company_keyset ON tb_employee (company_id, id_employee);
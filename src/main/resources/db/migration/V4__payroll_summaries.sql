@@ -0,0 +1,48 @@
+-- Resumos de folha por empresa e por cargo (GET /v1/payroll). Cada empresa é recalculada inteira no banco quando
+-- seus colaboradores mudam; os relatórios leem apenas estas tabelas, uma linha por empresa ou por cargo.
+-- Percentis pelo método nearest-rank: o menor salário cuja posição na ordenação é >= ceil(p * headcount).
+CREATE TABLE tb_payroll_company (
+    company_id    BINARY(16) NOT NULL,
+    headcount     BIGINT     NOT NULL,
+    total_salary  DOUBLE,
+    min_salary    DOUBLE,
+    max_salary    DOUBLE,
+    median_salary DOUBLE,
+    p90_salary    DOUBLE,
+    CONSTRAINT pk_payroll_company PRIMARY KEY (company_id),
+    CONSTRAINT fk_payroll_company FOREIGN KEY (company_id) REFERENCES tb_company (id) ON DELETE CASCADE
+);
+
+CREATE TABLE tb_payroll_position (
+    company_id    BINARY(16)   NOT NULL,
+    position      VARCHAR(255) NOT NULL,
+    headcount     BIGINT       NOT NULL,
+    total_salary  DOUBLE,
+    min_salary    DOUBLE,
+    max_salary    DOUBLE,
+    median_salary DOUBLE,
+    p90_salary    DOUBLE,
+    CONSTRAINT pk_payroll_position PRIMARY KEY (company_id, position),
+    CONSTRAINT fk_payroll_position_company FOREIGN KEY (company_id) REFERENCES tb_company (id) ON DELETE CASCADE
+);
+
+INSERT INTO tb_payroll_company (company_id, headcount, total_salary, min_salary, max_salary, median_salary, p90_salary)
+SELECT company_id, COUNT(*), SUM(salary), MIN(salary), MAX(salary),
+       MIN(CASE WHEN salary_rank >= CEIL(0.5 * group_size) THEN salary END),
+       MIN(CASE WHEN salary_rank >= CEIL(0.9 * group_size) THEN salary END)
+FROM (SELECT company_id, salary,
+             ROW_NUMBER() OVER (PARTITION BY company_id ORDER BY salary) AS salary_rank,
+             COUNT(*) OVER (PARTITION BY company_id) AS group_size
+      FROM tb_employee) ranked
+GROUP BY company_id;
+
+INSERT INTO tb_payroll_position (company_id, position, headcount, total_salary, min_salary, max_salary,
+                                 median_salary, p90_salary)
+SELECT company_id, position, COUNT(*), SUM(salary), MIN(salary), MAX(salary),
+       MIN(CASE WHEN salary_rank >= CEIL(0.5 * group_size) THEN salary END),
+       MIN(CASE WHEN salary_rank >= CEIL(0.9 * group_size) THEN salary END)
+FROM (SELECT company_id, COALESCE(position, '') AS position, salary,
+             ROW_NUMBER() OVER (PARTITION BY company_id, COALESCE(position, '') ORDER BY salary) AS salary_rank,
+             COUNT(*) OVER (PARTITION BY company_id, COALESCE(position, '')) AS group_size
+      FROM tb_employee) ranked
+GROUP BY company_id, position;
@@ -0,0 +1,16 @@
+-- Salários exatos em centavos: DOUBLE não representa valores como 0.10 e acumulava erro nas somas da folha.
+-- A conversão arredonda os valores existentes para duas casas; os índices sobre salary são reconstruídos pelo banco.
+ALTER TABLE tb_employee MODIFY COLUMN salary DECIMAL(15, 2);
+
+-- Totais da folha com folga para a soma de muitos salários; os demais agregados cabem no tipo do salário
+ALTER TABLE tb_payroll_company MODIFY COLUMN total_salary DECIMAL(19, 2);
+ALTER TABLE tb_payroll_company MODIFY COLUMN min_salary DECIMAL(15, 2);
+ALTER TABLE tb_payroll_company MODIFY COLUMN max_salary DECIMAL(15, 2);
+ALTER TABLE tb_payroll_company MODIFY COLUMN median_salary DECIMAL(15, 2);
+ALTER TABLE tb_payroll_company MODIFY COLUMN p90_salary DECIMAL(15, 2);
+
+ALTER TABLE tb_payroll_position MODIFY COLUMN total_salary DECIMAL(19, 2);
+ALTER TABLE tb_payroll_position MODIFY COLUMN min_salary DECIMAL(15, 2);
+ALTER TABLE tb_payroll_position MODIFY COLUMN max_salary DECIMAL(15, 2);
+ALTER TABLE tb_payroll_position MODIFY COLUMN median_salary DECIMAL(15, 2);
+ALTER TABLE tb_payroll_position MODIFY COLUMN p90_salary DECIMAL(15, 2);
@@ -0,0 +1,12 @@
+-- Outbox de eventos de alteração: cada escrita de colaborador ou empresa grava um evento compacto na mesma transação.
+-- O relay publica em lotes na ordem do id e apaga o que publicou; a tabela guarda só o que ainda não saiu.
+CREATE TABLE tb_outbox_event (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(20)  NOT NULL,
+    aggregate_id   BINARY(16)   NOT NULL,
+    event_type     VARCHAR(20)  NOT NULL,
+    changed_fields VARCHAR(255),
+    -- Epoch em milissegundos: base da métrica de atraso do relay
+    occurred_at    BIGINT       NOT NULL,
+    CONSTRAINT pk_outbox_event PRIMARY KEY (id)
+);
@@ -0,0 +1,15 @@
+-- Feed de alterações (GET /v1/employee/changes): cada linha guarda a sequência da última modificação
+-- (ver ChangeSequence) e o feed lê apenas o que mudou depois do token do cliente.
+-- Linhas anteriores a esta migration ficam com 0 e só aparecem na sincronização completa.
+ALTER TABLE tb_employee ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_employee ADD COLUMN created_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_company ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+CREATE INDEX idx_employee_change ON tb_employee (change_seq, id_employee);
+
+-- Lápides das exclusões: o id do colaborador e a sequência da exclusão, mantidas pelo período de retenção
+CREATE TABLE tb_employee_tombstone (
+    id_employee BINARY(16) NOT NULL,
+    deleted_seq BIGINT     NOT NULL,
+    CONSTRAINT pk_employee_tombstone PRIMARY KEY (id_employee)
+);
+CREATE INDEX idx_employee_tombstone_seq ON tb_employee_tombstone (deleted_seq, id_employee);
@@ -0,0 +1,9 @@
+-- Batimento gravado no primário a cada verificação das réplicas (sequência em microssegundos, como change_seq).
+-- Lido em cada réplica, mede o atraso da replicação e até onde ela já aplicou as escritas
+CREATE TABLE tb_replication_heartbeat (
+    id       TINYINT NOT NULL,
+    beat_seq BIGINT  NOT NULL,
+    CONSTRAINT pk_replication_heartbeat PRIMARY KEY (id)
+);
+
+INSERT INTO tb_replication_heartbeat (id, beat_seq) VALUES (1, 0);
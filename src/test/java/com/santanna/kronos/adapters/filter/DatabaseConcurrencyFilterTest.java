@@ -0,0 +1,114 @@
+package com.santanna.kronos.adapters.filter;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseConcurrencyFilterTest {
+
+    private DatabaseConcurrencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        var dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setConnectionTimeout(250);
+        filter = new DatabaseConcurrencyFilter(dataSource, 0);
+    }
+
+    @Test
+    void shouldRejectRequestWhenEveryPermitIsBusy() throws Exception {
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        var holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request(), new MockHttpServletResponse(), blockingChain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        var rejected = new MockHttpServletResponse();
+        filter.doFilter(request(), rejected, new MockFilterChain());
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(DatabaseConcurrencyFilter.SERVICE_UNAVAILABLE_503, rejected.getContentAsString());
+
+        release.countDown();
+        holder.join();
+
+        var accepted = new MockHttpServletResponse();
+        filter.doFilter(request(), accepted, new MockFilterChain());
+        assertEquals(200, accepted.getStatus());
+    }
+
+    @Test
+    void shouldHoldPermitUntilAsyncResponseCompletes() throws Exception {
+        // Como a exportação em streaming: o corpo é escrito em outra thread depois que a cadeia retorna
+        var streaming = request();
+        streaming.setAsyncSupported(true);
+        filter.doFilter(streaming, new MockHttpServletResponse(),
+                (request, response) -> request.startAsync(request, response));
+
+        var rejected = new MockHttpServletResponse();
+        filter.doFilter(request(), rejected, new MockFilterChain());
+        assertEquals(503, rejected.getStatus());
+
+        streaming.getAsyncContext().complete();
+
+        var accepted = new MockHttpServletResponse();
+        filter.doFilter(request(), accepted, new MockFilterChain());
+        assertEquals(200, accepted.getStatus());
+    }
+
+    @Test
+    void shouldNotLimitActuatorRequests() throws Exception {
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request(), new MockHttpServletResponse(), (request, response) -> {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        var health = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), health, new MockFilterChain());
+        assertEquals(200, health.getStatus());
+
+        release.countDown();
+        holder.join();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/v1/company");
+    }
+}
@@ -0,0 +1,53 @@
+package com.santanna.kronos.adapters.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.domain.common.PaginatedList;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageJsonComponentTest {
+
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper streaming = Jackson2ObjectMapperBuilder.json()
+            .serializers(new PageJsonComponent.PaginatedListSerializer(),
+                    new PageJsonComponent.EmployeeResponseSerializer(),
+                    new PageJsonComponent.CompanyResponseSerializer())
+            .build();
+
+    @Test
+    void shouldWriteEmployeePageLikeReflectiveSerialization() throws Exception {
+        var page = new PaginatedList<>(List.of(
+                new EmployeeResponseDto(UUID.randomUUID(), "12345678901", "João", "Da \"Silva\"",
+                        "joao@exemplo.com", 1500.5, "Developer", "Empresa"),
+                new EmployeeResponseDto(UUID.randomUUID(), "12345678902", "Maria", null,
+                        null, null, "Tech Lead", null)), 0, 2, 5);
+
+        assertEquals(reflective.writeValueAsString(page), streaming.writeValueAsString(page));
+    }
+
+    @Test
+    void shouldWriteCompanyPageLikeReflectiveSerialization() throws Exception {
+        var page = new PaginatedList<>(List.of(
+                new CompanyResponseDto(UUID.randomUUID(), "1234567890123", "Empresa", 10),
+                new CompanyResponseDto(UUID.randomUUID(), "1234567890124", "Outra", null)), 1, 2, 4);
+
+        assertEquals(reflective.writeValueAsString(page), streaming.writeValueAsString(page));
+    }
+
+    @Test
+    void shouldWriteMappedAndEmptyPages() throws Exception {
+        var names = new PaginatedList<>(List.of("Empresa", "Outra"), 0, 10, 2)
+                .map(name -> new CompanyResponseDto(null, "1234567890123", name, 0));
+        var empty = new PaginatedList<EmployeeResponseDto>(List.of(), 0, 10, 0);
+
+        assertEquals(reflective.writeValueAsString(names), streaming.writeValueAsString(names));
+        assertEquals(reflective.writeValueAsString(empty), streaming.writeValueAsString(empty));
+    }
+}
@@ -0,0 +1,116 @@
+package com.santanna.kronos.application.usecase;
+
+import com.santanna.kronos.application.dto.company.DeletionStatus;
+import com.santanna.kronos.application.exception.NotFoundException;
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
+import com.santanna.kronos.domain.repository.CompanyRepository;
+import com.santanna.kronos.domain.repository.OutboxRepository;
+import com.santanna.kronos.infrastructure.exception.DatabaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyDeletionUseCaseTest {
+
+    public static final int CHUNK = 2;
+
+    @Mock
+    private CompanyRepository companyRepository;
+    @Mock
+    private OutboxRepository outboxRepository;
+    @Mock
+    private PayrollUseCase payrollUseCase;
+    private CompanyDeletionUseCase companyDeletionUseCase;
+    private final UUID companyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // Executor síncrono: a exclusão termina antes de startDeletion retornar
+        companyDeletionUseCase = new CompanyDeletionUseCase(companyRepository, outboxRepository,
+                payrollUseCase, TransactionOperations.withoutTransaction(), Runnable::run, CHUNK);
+    }
+
+    @Test
+    void shouldDeleteEmployeesInChunksAndThenCompany() {
+        when(companyRepository.existsCompany(companyId)).thenReturn(true);
+        when(companyRepository.countEmployees(companyId)).thenReturn(5L);
+        when(companyRepository.deleteEmployees(companyId, CHUNK))
+                .thenReturn(employeeIds(2), employeeIds(2), employeeIds(1));
+        var lateEmployee = UUID.randomUUID();
+        when(companyRepository.deleteCompany(companyId)).thenReturn(List.of(lateEmployee));
+
+        var started = companyDeletionUseCase.startDeletion(companyId);
+        var job = companyDeletionUseCase.findDeletion(started.jobId());
+
+        assertEquals(DeletionStatus.COMPLETED, job.status());
+        assertEquals(5, job.totalEmployees());
+        assertEquals(5, job.deletedEmployees());
+        InOrder inOrder = inOrder(companyRepository, outboxRepository);
+        inOrder.verify(companyRepository, times(3)).deleteEmployees(companyId, CHUNK);
+        inOrder.verify(companyRepository).deleteCompany(companyId);
+        inOrder.verify(outboxRepository).appendAll(argThat(events -> events.size() == 1
+                && events.get(0).getAggregateId().equals(lateEmployee)));
+        inOrder.verify(outboxRepository).append(argThat(event ->
+                event.getAggregateId().equals(companyId) && event.getType() == ChangeType.DELETED));
+
+        // Um evento DELETED por colaborador de cada bloco e a folha marcada a cada bloco
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ChangeEvent>> eventCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository, times(4)).appendAll(eventCaptor.capture());
+        assertEquals(List.of(2, 2, 1, 1), eventCaptor.getAllValues().stream().map(List::size).toList());
+        assertTrue(eventCaptor.getAllValues().stream().flatMap(List::stream).allMatch(event ->
+                event.getAggregateType() == AggregateType.EMPLOYEE && event.getType() == ChangeType.DELETED));
+        verify(payrollUseCase, times(3)).companyChanged(companyId);
+    }
+
+    @Test
+    void shouldReportFailure() {
+        when(companyRepository.existsCompany(companyId)).thenReturn(true);
+        when(companyRepository.deleteEmployees(companyId, CHUNK))
+                .thenReturn(employeeIds(2))
+                .thenThrow(new DatabaseException("Error deleting employee", null));
+
+        var started = companyDeletionUseCase.startDeletion(companyId);
+        var job = companyDeletionUseCase.findDeletion(started.jobId());
+
+        assertEquals(DeletionStatus.FAILED, job.status());
+        assertEquals(2, job.deletedEmployees());
+        assertEquals("Error deleting employee", job.error());
+        verify(companyRepository, never()).deleteCompany(any());
+        // Só o bloco gravado tem eventos
+        verify(outboxRepository, times(1)).appendAll(any());
+        verify(outboxRepository, never()).append(any());
+    }
+
+    @Test
+    void shouldNotStartDeletion_NotFoundException() {
+        when(companyRepository.existsCompany(companyId)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> companyDeletionUseCase.startDeletion(companyId));
+        verify(companyRepository, never()).deleteEmployees(any(), anyInt());
+    }
+
+    @Test
+    void shouldNotFindUnknownDeletion() {
+        assertThrows(NotFoundException.class, () -> companyDeletionUseCase.findDeletion(UUID.randomUUID()));
+    }
+
+    private static List<UUID> employeeIds(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+}
@@ -5,9 +5,17 @@ import com.santanna.kronos.application.dto.company.CompanyResponseDto;
 import com.santanna.kronos.application.dto.company.UpdateCompanyRequestDto;
 import com.santanna.kronos.application.exception.BadRequestException;
 import com.santanna.kronos.application.exception.NotFoundException;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.domain.exception.DuplicatedEntryException;
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
 import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.model.CompanyPatch;
+import com.santanna.kronos.domain.model.CompanySummary;
 import com.santanna.kronos.domain.repository.CompanyRepository;
+import com.santanna.kronos.domain.repository.OutboxRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,20 +42,29 @@ class CompanyUseCaseTest {
 
     @Mock
     private CompanyRepository companyRepository;
+    @Mock
+    private OutboxRepository outboxRepository;
     @InjectMocks
     private CompanyUseCase companyUseCase;
     private Company company;
+    private CompanySummary companySummary;
     private CompanyRequestDto companyRequestDto;
     private UpdateCompanyRequestDto updateCompanyRequestDto;
 
     @BeforeEach
     void setUp() {
-        companyUseCase = new CompanyUseCase(companyRepository);
+        companyUseCase = new CompanyUseCase(companyRepository, outboxRepository);
         UUID id = UUID.randomUUID();
         company = Company.builder()
                 .id(id)
                 .cnpj(CNPJ)
                 .build();
+        companySummary = CompanySummary.builder()
+                .id(id)
+                .cnpj(CNPJ)
+                .nameCompany(NAME_COMPANY)
+                .employeeCount(3)
+                .build();
 
         companyRequestDto = new CompanyRequestDto(
                 CNPJ,
@@ -61,32 +78,48 @@ class CompanyUseCaseTest {
 
     @Test
     void shouldReturnEmployeeById_Success() {
-        when(companyRepository.findCompany(company.getId())).thenReturn(Optional.of(company));
+        when(companyRepository.findCompanySummary(company.getId())).thenReturn(Optional.of(companySummary));
 
-        var response = companyUseCase.findCompanyById(company.getId());
+        var response = companyUseCase.findCompanyById(company.getId()).body();
 
         assertNotNull(response);
-        assertEquals(company.getId(), response.id());
-        assertEquals(company.getNameCompany(), response.nameCompany());
-        assertEquals(company.getCnpj(), response.cnpj());
+        assertEquals(companySummary.getId(), response.id());
+        assertEquals(companySummary.getNameCompany(), response.nameCompany());
+        assertEquals(companySummary.getCnpj(), response.cnpj());
+        assertEquals(3, response.employeeCount());
+        verify(companyRepository, never()).findCompany(any());
+    }
+
+    @Test
+    void shouldChangeCompanyTagWhenEmployeeCountChanges() {
+        var hired = CompanySummary.builder().id(company.getId()).version(7).employeeCount(4).build();
+        when(companyRepository.findCompanySummary(company.getId()))
+                .thenReturn(Optional.of(CompanySummary.builder().id(company.getId()).version(7).employeeCount(3).build()))
+                .thenReturn(Optional.of(hired));
+
+        var before = companyUseCase.findCompanyById(company.getId()).eTag();
+        var after = companyUseCase.findCompanyById(company.getId()).eTag();
+
+        assertEquals("\"7-3\"", before);
+        assertEquals("\"7-4\"", after);
     }
 
     @Test
     void shouldReturnAllEmployees_Success() {
         UUID id2 = UUID.randomUUID();
-        var company2 = Company.builder()
+        var company2 = CompanySummary.builder()
                 .id(id2)
                 .cnpj("1234567890012")
                 .nameCompany("NAME")
                 .build();
-        List<Company> companies = Arrays.asList(company, company2);
+        List<CompanySummary> companies = Arrays.asList(companySummary, company2);
 
-        PaginatedList<Company> companyPaginated = new PaginatedList<>(
+        PaginatedList<CompanySummary> companyPaginated = new PaginatedList<>(
                 companies, 0, 2, 2L
         );
 
         when(companyRepository.findAllCompanies(0, 2)).thenReturn(companyPaginated);
-        PaginatedList<CompanyResponseDto> response = companyUseCase.findAllCompanies(0, 2);
+        PaginatedList<CompanyResponseDto> response = companyUseCase.findAllCompanies(0, 2).body();
 
         assertNotNull(response);
         assertEquals(2, response.getContent().size());
@@ -96,9 +129,21 @@ class CompanyUseCaseTest {
         verify(companyRepository, times(1)).findAllCompanies(0, 2);
     }
 
+    @Test
+    void shouldReturnCompaniesByCursor_Success() {
+        when(companyRepository.findCompaniesAfter(null, 2, true))
+                .thenReturn(new CursorPage<>(List.of(companySummary), null, 2, 1L));
+
+        CursorPage<CompanyResponseDto> response = companyUseCase.findCompaniesAfter("", 2, true).body();
+
+        assertEquals(1, response.getContent().size());
+        assertNull(response.getNextCursor());
+        assertEquals(1L, response.getTotalElements());
+    }
+
     @Test
     void shouldCreateEmployee_Success() {
-        when(companyRepository.findCnpj(companyRequestDto.cnpj())).thenReturn(Optional.empty());
+        when(companyRepository.saveCompany(any())).thenReturn(company.getId());
         companyUseCase.addCompany(companyRequestDto);
 
         ArgumentCaptor<Company> companyCaptor = ArgumentCaptor.forClass(Company.class);
@@ -107,71 +152,98 @@ class CompanyUseCaseTest {
 
         assertEquals(companyRequestDto.nameCompany(), savedCompany.getNameCompany());
         assertEquals(companyRequestDto.cnpj(), savedCompany.getCnpj());
-        verify(companyRepository, times(1)).findCnpj(companyRequestDto.cnpj());
+        verify(companyRepository, never()).findCnpj(any());
+        var event = appendedEvent();
+        assertEquals(AggregateType.COMPANY, event.getAggregateType());
+        assertEquals(company.getId(), event.getAggregateId());
+        assertEquals(ChangeType.CREATED, event.getType());
     }
 
     @Test
     void shouldUpdateEmployee_Success() {
-        when(companyRepository.findCompany(company.getId())).thenReturn(Optional.of(company));
+        when(companyRepository.patchCompany(eq(company.getId()), any())).thenReturn(true);
         companyUseCase.updateCompany(company.getId(), updateCompanyRequestDto);
 
-        ArgumentCaptor<Company> companyCaptor = ArgumentCaptor.forClass(Company.class);
-        verify(companyRepository, times(1)).saveCompany(companyCaptor.capture());
-        var savedCompany = companyCaptor.getValue();
+        ArgumentCaptor<CompanyPatch> patchCaptor = ArgumentCaptor.forClass(CompanyPatch.class);
+        verify(companyRepository, times(1)).patchCompany(eq(company.getId()), patchCaptor.capture());
+        var patch = patchCaptor.getValue();
+
+        verify(companyRepository, never()).findCompany(any());
+        verify(companyRepository, never()).saveCompany(any());
+        assertEquals(updateCompanyRequestDto.nameCompany(), patch.getNameCompany());
+        assertEquals(updateCompanyRequestDto.cnpj(), patch.getCnpj());
+        assertEquals(List.of("cnpj", "nameCompany"), appendedEvent().getFields());
+    }
 
-        verify(companyRepository, times(1)).findCompany(company.getId());
-        assertDoesNotThrow(() -> companyUseCase.updateCompany(company.getId(), updateCompanyRequestDto));
-        assertEquals(updateCompanyRequestDto.nameCompany(), savedCompany.getNameCompany());
-        assertEquals(updateCompanyRequestDto.cnpj(), savedCompany.getCnpj());
+    @Test
+    void shouldNotUpdateCompany_DuplicatedCnpj() {
+        when(companyRepository.patchCompany(eq(company.getId()), any()))
+                .thenThrow(new DuplicatedEntryException("Duplicated CNPJ"));
+        var badRequestException = assertThrows(BadRequestException.class,
+                () -> companyUseCase.updateCompany(company.getId(), updateCompanyRequestDto));
+        assertEquals(COMPANY_ALREADY_EXIST_400, badRequestException.getMessage());
     }
 
     @Test
     void shouldDeleteEmployee_Success() {
-        when(companyRepository.findCompany(company.getId())).thenReturn(Optional.of(company));
+        var employeeId = UUID.randomUUID();
+        when(companyRepository.existsCompany(company.getId())).thenReturn(true);
+        when(companyRepository.deleteCompany(company.getId())).thenReturn(List.of(employeeId));
 
         assertDoesNotThrow(() -> companyUseCase.deleteCompany(company.getId()));
 
-        verify(companyRepository, times(1)).findCompany(company.getId());
+        verify(companyRepository, times(1)).existsCompany(company.getId());
         verify(companyRepository, times(1)).deleteCompany(company.getId());
         verifyNoMoreInteractions(companyRepository);
+        assertEquals(ChangeType.DELETED, appendedEvent().getType());
+        verify(outboxRepository).appendAll(argThat(events -> events.size() == 1
+                && events.get(0).getAggregateType() == AggregateType.EMPLOYEE
+                && events.get(0).getAggregateId().equals(employeeId)
+                && events.get(0).getType() == ChangeType.DELETED));
     }
 
     @Test
     void shouldNotReturnEmployeeById_NotFoundExceptio() {
-        when(companyRepository.findCompany(company.getId())).thenReturn(Optional.empty());
+        when(companyRepository.findCompanySummary(company.getId())).thenReturn(Optional.empty());
         var notFoundException = assertThrows(NotFoundException.class,
                 () -> companyUseCase.findCompanyById(company.getId()));
 
         assertEquals(COMPANY_NOT_FOUND_404, notFoundException.getMessage());
-        verify(companyRepository, times(1)).findCompany(company.getId());
+        verify(companyRepository, times(1)).findCompanySummary(company.getId());
     }
 
     @Test
     void shouldReturnEmployeeAlreadyExists_BadRequestException() {
-        when(companyRepository.findCnpj(company.getCnpj())).thenReturn(Optional.of(company));
+        doThrow(new DuplicatedEntryException("Duplicated CNPJ")).when(companyRepository).saveCompany(any());
         var badRequestException = assertThrows(BadRequestException.class,
                 () -> companyUseCase.addCompany(companyRequestDto));
         assertEquals(COMPANY_ALREADY_EXIST_400, badRequestException.getMessage());
-        verify(companyRepository, never()).saveCompany(company);
+        verifyNoInteractions(outboxRepository);
     }
 
     @Test
     void shouldNotUpdateEmployee_NotFoundExceptio() {
-        when(companyRepository.findCompany(company.getId())).thenReturn(Optional.empty());
+        when(companyRepository.patchCompany(eq(company.getId()), any())).thenReturn(false);
         var notFoundException = assertThrows(NotFoundException.class,
                 () -> companyUseCase.updateCompany(company.getId(), updateCompanyRequestDto));
         assertEquals(COMPANY_NOT_FOUND_404, notFoundException.getMessage());
-        verify(companyRepository, times(1)).findCompany(company.getId());
+        verify(companyRepository, times(1)).patchCompany(eq(company.getId()), any());
     }
 
     @Test
     void shouldNotDeleteEmployee_NotFoundException() {
-        when(companyRepository.findCompany(company.getId())).thenReturn(Optional.empty());
+        when(companyRepository.existsCompany(company.getId())).thenReturn(false);
 
         var notFoundException = assertThrows(NotFoundException.class,
                 () -> companyUseCase.deleteCompany(company.getId()));
 
         assertEquals(COMPANY_NOT_FOUND_404, notFoundException.getMessage());
-        verify(companyRepository, times(1)).findCompany(company.getId());
+        verify(companyRepository, never()).deleteCompany(any());
+    }
+
+    private ChangeEvent appendedEvent() {
+        ArgumentCaptor<ChangeEvent> eventCaptor = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(outboxRepository, times(1)).append(eventCaptor.capture());
+        return eventCaptor.getValue();
     }
-}
\ No newline at end of file
+}
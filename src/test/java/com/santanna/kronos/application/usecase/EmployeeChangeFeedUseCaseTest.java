@@ -0,0 +1,112 @@
+package com.santanna.kronos.application.usecase;
+
+import com.santanna.kronos.application.exception.BadRequestException;
+import com.santanna.kronos.domain.common.ChangeSequence;
+import com.santanna.kronos.domain.common.ChangeToken;
+import com.santanna.kronos.domain.model.ChangeType;
+import com.santanna.kronos.domain.model.Company;
+import com.santanna.kronos.domain.model.Employee;
+import com.santanna.kronos.domain.model.EmployeeChange;
+import com.santanna.kronos.domain.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeFeedUseCaseTest {
+
+    private static final Duration SETTLE = Duration.ofSeconds(5);
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+    private EmployeeChangeFeedUseCase feedUseCase;
+
+    @BeforeEach
+    void setUp() {
+        feedUseCase = new EmployeeChangeFeedUseCase(employeeRepository, SETTLE, RETENTION);
+    }
+
+    @Test
+    void shouldResumeFromLastChangeWhenThereAreMore() {
+        var first = updated(10);
+        var second = deleted(20);
+        when(employeeRepository.findEmployeeChanges(isNull(), anyLong(), eq(3)))
+                .thenReturn(List.of(first, second, updated(30)));
+
+        var feed = feedUseCase.getChanges(null, 2);
+
+        assertTrue(feed.isHasMore());
+        assertEquals(2, feed.getChanges().size());
+        assertEquals(ChangeType.DELETED, feed.getChanges().get(1).type());
+        assertNull(feed.getChanges().get(1).employee());
+        var token = ChangeToken.decode(feed.getNextToken());
+        assertEquals(20, token.sequence());
+        assertEquals(second.getIdEmployee(), token.id());
+    }
+
+    @Test
+    void shouldAdvanceTokenToStablePointWhenCaughtUp() {
+        var since = ChangeToken.caughtUp(ChangeSequence.of(Instant.now().minus(Duration.ofHours(1))));
+        var upTo = ArgumentCaptor.forClass(Long.class);
+        when(employeeRepository.findEmployeeChanges(eq(since), upTo.capture(), eq(101))).thenReturn(List.of());
+
+        var before = ChangeSequence.of(Instant.now().minus(SETTLE));
+        var feed = feedUseCase.getChanges(since.encode(), 100);
+
+        assertFalse(feed.isHasMore());
+        assertTrue(feed.getChanges().isEmpty());
+        var token = ChangeToken.decode(feed.getNextToken());
+        assertEquals(upTo.getValue(), token.sequence());
+        assertEquals(upTo.getValue(), token.syncedAt());
+        assertTrue(token.sequence() >= before);
+    }
+
+    @Test
+    void shouldCapBatchSize() {
+        when(employeeRepository.findEmployeeChanges(isNull(), anyLong(), anyInt())).thenReturn(List.of());
+
+        feedUseCase.getChanges(null, 50_000);
+
+        verify(employeeRepository).findEmployeeChanges(isNull(), anyLong(),
+                eq(EmployeeChangeFeedUseCase.MAX_BATCH_SIZE + 1));
+    }
+
+    @Test
+    void shouldRejectTokenOlderThanTombstoneRetention() {
+        var old = ChangeToken.caughtUp(ChangeSequence.of(Instant.now().minus(RETENTION).minus(Duration.ofDays(1))));
+
+        var badRequestException = assertThrows(BadRequestException.class,
+                () -> feedUseCase.getChanges(old.encode(), 100));
+
+        assertEquals(EmployeeChangeFeedUseCase.TOKEN_EXPIRED_400, badRequestException.getMessage());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    private static EmployeeChange updated(long sequence) {
+        var id = UUID.randomUUID();
+        return EmployeeChange.builder()
+                .type(ChangeType.UPDATED)
+                .idEmployee(id)
+                .sequence(sequence)
+                .employee(Employee.builder().idEmployee(id).name("Nome").salaryCents(150000L)
+                        .company(Company.builder().nameCompany("Empresa").build()).build())
+                .build();
+    }
+
+    private static EmployeeChange deleted(long sequence) {
+        return EmployeeChange.builder().type(ChangeType.DELETED).idEmployee(UUID.randomUUID()).sequence(sequence).build();
+    }
+}
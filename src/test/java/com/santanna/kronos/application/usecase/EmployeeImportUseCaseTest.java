@@ -0,0 +1,157 @@
+package com.santanna.kronos.application.usecase;
+
+import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
+import com.santanna.kronos.application.dto.employee.ImportErrorDto;
+import com.santanna.kronos.domain.exception.DuplicatedEntryException;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
+import com.santanna.kronos.domain.model.Employee;
+import com.santanna.kronos.domain.repository.CompanyRepository;
+import com.santanna.kronos.domain.repository.EmployeeRepository;
+import com.santanna.kronos.domain.repository.OutboxRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportUseCaseTest {
+
+    public static final String CNPJ = "1234567890112";
+    public static final String UNKNOWN_CNPJ = "9999999999999";
+    public static final String EMPLOYEE_ALREADY_EXIST_400 = "Colaborador/CPF já cadastrado no sistema";
+    public static final String DUPLICATED_IN_FILE_400 = "CPF repetido no arquivo";
+    public static final String COMPANY_NOT_FOUND_404 = "Empresa não encontrada";
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+    @Mock
+    private CompanyRepository companyRepository;
+    @Mock
+    private PayrollUseCase payrollUseCase;
+    @Mock
+    private OutboxRepository outboxRepository;
+    private EmployeeImportUseCase employeeImportUseCase;
+    private final UUID companyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        employeeImportUseCase = new EmployeeImportUseCase(employeeRepository, companyRepository, payrollUseCase,
+                outboxRepository, TransactionOperations.withoutTransaction(), validator, 2);
+    }
+
+    @Test
+    void shouldImportInBatches_Success() {
+        when(employeeRepository.findExistingCpfs(any())).thenReturn(Set.of());
+        when(companyRepository.findCompanyIdsByCnpj(any())).thenReturn(Map.of(CNPJ, companyId));
+
+        var result = employeeImportUseCase.importEmployees(List.of(
+                employee("11111111111", CNPJ), employee("22222222222", CNPJ), employee("33333333333", CNPJ)
+        ).iterator());
+
+        assertEquals(3, result.received());
+        assertEquals(3, result.imported());
+        assertTrue(result.errors().isEmpty());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Employee>> captor = ArgumentCaptor.forClass(List.class);
+        verify(employeeRepository, times(2)).insertEmployees(captor.capture());
+        assertEquals(2, captor.getAllValues().get(0).size());
+        assertEquals(1, captor.getAllValues().get(1).size());
+        assertEquals(companyId, captor.getAllValues().get(1).get(0).getCompany().getId());
+        verify(employeeRepository, times(2)).findExistingCpfs(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ChangeEvent>> eventCaptor = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository, times(2)).appendAll(eventCaptor.capture());
+        assertEquals(List.of(2, 1), eventCaptor.getAllValues().stream().map(List::size).toList());
+        assertTrue(eventCaptor.getAllValues().stream().flatMap(List::stream)
+                .allMatch(event -> event.getType() == ChangeType.CREATED));
+    }
+
+    @Test
+    void shouldReportRowFailures() {
+        when(employeeRepository.findExistingCpfs(any())).thenReturn(Set.of("22222222222"));
+        when(companyRepository.findCompanyIdsByCnpj(any())).thenReturn(Map.of(CNPJ, companyId));
+
+        var result = employeeImportUseCase.importEmployees(List.of(
+                employee("11111111111", CNPJ),
+                employee("11111111111", CNPJ),
+                employee("22222222222", CNPJ),
+                employee("33333333333", UNKNOWN_CNPJ),
+                employee("123", CNPJ)
+        ).iterator());
+
+        assertEquals(5, result.received());
+        assertEquals(1, result.imported());
+        assertEquals(List.of(2L, 3L, 4L, 5L), result.errors().stream().map(ImportErrorDto::row).toList());
+        assertEquals(DUPLICATED_IN_FILE_400, result.errors().get(0).message());
+        assertEquals(EMPLOYEE_ALREADY_EXIST_400, result.errors().get(1).message());
+        assertEquals(COMPANY_NOT_FOUND_404, result.errors().get(2).message());
+        verify(employeeRepository, times(1)).insertEmployees(any());
+    }
+
+    @Test
+    void shouldNotQueryRepositoriesWhenEveryRowIsInvalid() {
+        var result = employeeImportUseCase.importEmployees(List.of(employee("1", CNPJ)).iterator());
+
+        assertEquals(0, result.imported());
+        assertEquals(1, result.errors().size());
+        verifyNoInteractions(employeeRepository, companyRepository, outboxRepository);
+    }
+
+    @Test
+    void shouldRetryRowByRowWhenConcurrentInsertDuplicatesCpf() {
+        when(employeeRepository.findExistingCpfs(any())).thenReturn(Set.of());
+        when(companyRepository.findCompanyIdsByCnpj(any())).thenReturn(Map.of(CNPJ, companyId));
+        // O CPF 22222222222 foi gravado por outra requisição entre a consulta e a inserção do bloco
+        doAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            if (employees.stream().anyMatch(e -> e.getCpf().equals("22222222222"))) {
+                throw new DuplicatedEntryException("Duplicated CPF");
+            }
+            return null;
+        }).when(employeeRepository).insertEmployees(any());
+
+        var result = employeeImportUseCase.importEmployees(List.of(
+                employee("11111111111", CNPJ), employee("22222222222", CNPJ)
+        ).iterator());
+
+        assertEquals(1, result.imported());
+        assertEquals(List.of(new ImportErrorDto(2, "22222222222", EMPLOYEE_ALREADY_EXIST_400)), result.errors());
+        verify(employeeRepository, times(3)).insertEmployees(any());
+        verify(outboxRepository, times(1)).appendAll(any());
+    }
+
+    @Test
+    void shouldCapReportedErrors() {
+        var rows = new ArrayList<EmployeeRequestDto>();
+        for (int i = 0; i <= EmployeeImportUseCase.MAX_REPORTED_ERRORS; i++) {
+            rows.add(employee("1", CNPJ));
+        }
+
+        var result = employeeImportUseCase.importEmployees(rows.iterator());
+
+        assertEquals(EmployeeImportUseCase.MAX_REPORTED_ERRORS + 1, result.received());
+        assertEquals(0, result.imported());
+        assertEquals(EmployeeImportUseCase.MAX_REPORTED_ERRORS, result.errors().size());
+    }
+
+    private static EmployeeRequestDto employee(String cpf, String cnpj) {
+        return new EmployeeRequestDto(cpf, "João", "Silva", "joao@example.com", 2000.0, "Developer", cnpj);
+    }
+}
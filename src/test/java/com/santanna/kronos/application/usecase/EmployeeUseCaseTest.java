@@ -5,9 +5,17 @@ import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
 import com.santanna.kronos.application.dto.employee.UpdateRequestDto;
 import com.santanna.kronos.application.exception.BadRequestException;
 import com.santanna.kronos.application.exception.NotFoundException;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.domain.exception.DuplicatedEntryException;
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
 import com.santanna.kronos.domain.model.Employee;
+import com.santanna.kronos.domain.model.EmployeePatch;
+import com.santanna.kronos.domain.repository.CompanyRepository;
 import com.santanna.kronos.domain.repository.EmployeeRepository;
+import com.santanna.kronos.domain.repository.OutboxRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,12 +40,21 @@ class EmployeeUseCaseTest {
     public static final String SURNAME = "Silva";
     public static final String MAIL = "joao@example.com";
     public static final double SALARY = 2000.0;
+    public static final long SALARY_CENTS = 200000;
     public static final String DEVELOPER = "Developer";
+    public static final String CNPJ = "1234567890112";
+    public static final String COMPANY_NOT_FOUND_404 = "Empresa não encontrada";
     public static final String EMPLOYEE_NOT_FOUND_404 = "Colaborador não encontrado";
     public static final String EMPLOYEE_ALREADY_EXIST_400 = "Colaborador/CPF já cadastrado no sistema";
 
     @Mock
     private EmployeeRepository employeeRepository;
+    @Mock
+    private CompanyRepository companyRepository;
+    @Mock
+    private PayrollUseCase payrollUseCase;
+    @Mock
+    private OutboxRepository outboxRepository;
     @InjectMocks
     private EmployeeUseCase employeeUseCase;
     private Employee employee;
@@ -46,7 +63,7 @@ class EmployeeUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        employeeUseCase = new EmployeeUseCase(employeeRepository);
+        employeeUseCase = new EmployeeUseCase(employeeRepository, companyRepository, payrollUseCase, outboxRepository);
         UUID id = UUID.randomUUID();
         employee = Employee.builder()
                 .idEmployee(id)
@@ -54,7 +71,7 @@ class EmployeeUseCaseTest {
                 .name(NAME)
                 .surname(SURNAME)
                 .email(MAIL)
-                .salary(SALARY)
+                .salaryCents(SALARY_CENTS)
                 .position(DEVELOPER)
                 .build();
 
@@ -64,7 +81,8 @@ class EmployeeUseCaseTest {
                 SURNAME,
                 MAIL,
                 SALARY,
-                DEVELOPER
+                DEVELOPER,
+                CNPJ
         );
         updateEmployee = new UpdateRequestDto(
                 CPF,
@@ -80,17 +98,31 @@ class EmployeeUseCaseTest {
     void shouldReturnEmployeeById_Success() {
         when(employeeRepository.findEmployee(employee.getIdEmployee())).thenReturn(Optional.of(employee));
 
-        EmployeeResponseDto response = employeeUseCase.getEmployeeById(employee.getIdEmployee());
+        EmployeeResponseDto response = employeeUseCase.getEmployeeById(employee.getIdEmployee()).body();
 
         assertNotNull(response);
         assertEquals(employee.getIdEmployee(), response.id());
         assertEquals(employee.getName(), response.name());
         assertEquals(employee.getSurname(), response.surname());
         assertEquals(employee.getEmail(), response.email());
-        assertEquals(employee.getSalary(), response.salary());
+        assertEquals(SALARY, response.salary());
         assertEquals(employee.getPosition(), response.position());
     }
 
+    @Test
+    void shouldTagEmployeeWithItsVersion() {
+        employee.setVersion(41);
+        when(employeeRepository.findEmployee(employee.getIdEmployee())).thenReturn(Optional.of(employee));
+        var before = employeeUseCase.getEmployeeById(employee.getIdEmployee()).eTag();
+        var unchanged = employeeUseCase.getEmployeeById(employee.getIdEmployee()).eTag();
+        employee.setVersion(42);
+        var after = employeeUseCase.getEmployeeById(employee.getIdEmployee()).eTag();
+
+        assertEquals("\"29\"", before);
+        assertEquals(before, unchanged);
+        assertNotEquals(before, after);
+    }
+
     @Test
     void shouldReturnAllEmployees_Success() {
         UUID id2 = UUID.randomUUID();
@@ -100,7 +132,7 @@ class EmployeeUseCaseTest {
                 .name("NAME")
                 .surname("SURNAME")
                 .email("MAIL@EXEMPLE.com")
-                .salary(9999.0)
+                .salaryCents(999900L)
                 .position("DEVELOPER")
                 .build();
         List<Employee> employees = Arrays.asList(employee, employee2);
@@ -110,7 +142,8 @@ class EmployeeUseCaseTest {
         );
 
         when(employeeRepository.findAllEmployees(0, 2)).thenReturn(employeePaginated);
-        PaginatedList<EmployeeResponseDto> response = employeeUseCase.getAllEmployees(0, 2);
+        var versioned = employeeUseCase.getAllEmployees(0, 2);
+        PaginatedList<EmployeeResponseDto> response = versioned.body();
 
         assertNotNull(response);
         assertEquals(2, response.getContent().size());
@@ -118,69 +151,139 @@ class EmployeeUseCaseTest {
         assertEquals(2, response.getPageSize());
         assertEquals(2L, response.getTotalElements());
         verify(employeeRepository, times(1)).findAllEmployees(0, 2);
+
+        // Qualquer colaborador da página com outra versão muda o ETag da página
+        employee2.setVersion(employee2.getVersion() + 1);
+        assertNotEquals(versioned.eTag(), employeeUseCase.getAllEmployees(0, 2).eTag());
+    }
+
+    @Test
+    void shouldReturnEmployeesByCursor_Success() {
+        var cursor = CursorPage.encodeKey(employee.getIdEmployee());
+        when(employeeRepository.findEmployeesAfter(employee.getIdEmployee(), 1, false))
+                .thenReturn(new CursorPage<>(List.of(employee), "next", 1, null));
+
+        CursorPage<EmployeeResponseDto> response = employeeUseCase.getEmployeesAfter(cursor, 1, false).body();
+
+        assertEquals(1, response.getContent().size());
+        assertEquals("next", response.getNextCursor());
+        assertNull(response.getTotalElements());
+    }
+
+    @Test
+    void shouldReturnCompanyEmployeesByCursor_WithoutCheckingCompany() {
+        UUID companyId = UUID.randomUUID();
+        when(employeeRepository.findCompanyEmployeesAfter(companyId, null, 1, false))
+                .thenReturn(new CursorPage<>(List.of(employee), "next", 1, null));
+
+        CursorPage<EmployeeResponseDto> response =
+                employeeUseCase.getCompanyEmployeesAfter(companyId, null, 1, false).body();
+
+        assertEquals(1, response.getContent().size());
+        assertEquals("next", response.getNextCursor());
+        verify(companyRepository, never()).existsCompany(any());
+    }
+
+    @Test
+    void shouldNotReturnCompanyEmployees_CompanyNotFound() {
+        UUID companyId = UUID.randomUUID();
+        when(employeeRepository.findCompanyEmployeesAfter(companyId, null, 1, false))
+                .thenReturn(new CursorPage<>(List.of(), null, 1, null));
+        when(companyRepository.existsCompany(companyId)).thenReturn(false);
+
+        var notFoundException = assertThrows(NotFoundException.class,
+                () -> employeeUseCase.getCompanyEmployeesAfter(companyId, null, 1, false));
+        assertEquals(COMPANY_NOT_FOUND_404, notFoundException.getMessage());
     }
 
     @Test
     void shouldCreateEmployee_Success() {
-        when(employeeRepository.findCpf(employeeRequestDto.cpf())).thenReturn(Optional.empty());
+        UUID companyId = UUID.randomUUID();
+        when(companyRepository.findCompanyIdByCnpj(CNPJ)).thenReturn(Optional.of(companyId));
         employeeUseCase.addEmployee(employeeRequestDto);
 
         ArgumentCaptor<Employee> employeeCaptor = ArgumentCaptor.forClass(Employee.class);
-        verify(employeeRepository, times(1)).saveEmployee(employeeCaptor.capture());
+        verify(employeeRepository, times(1)).insertEmployee(employeeCaptor.capture(), eq(companyId));
         var savedEmployee = employeeCaptor.getValue();
 
         assertEquals(employeeRequestDto.name(), savedEmployee.getName());
         assertEquals(employeeRequestDto.surname(), savedEmployee.getSurname());
         assertEquals(employeeRequestDto.email(), savedEmployee.getEmail());
         assertEquals(employeeRequestDto.cpf(), savedEmployee.getCpf());
-        assertEquals(employeeRequestDto.salary(), savedEmployee.getSalary());
+        assertEquals(SALARY_CENTS, savedEmployee.getSalaryCents());
         assertEquals(employeeRequestDto.position(), savedEmployee.getPosition());
-        verify(employeeRepository, times(1)).findCpf(employeeRequestDto.cpf());
+        verify(employeeRepository, never()).findCpf(any());
+        verify(companyRepository, never()).saveCompany(any());
+        verify(payrollUseCase, times(1)).companyChanged(companyId);
+        var event = appendedEvent();
+        assertEquals(AggregateType.EMPLOYEE, event.getAggregateType());
+        assertEquals(ChangeType.CREATED, event.getType());
+    }
+
+    @Test
+    void shouldNotCreateEmployee_CompanyNotFound() {
+        when(companyRepository.findCompanyIdByCnpj(CNPJ)).thenReturn(Optional.empty());
+        var badRequestException = assertThrows(BadRequestException.class,
+                () -> employeeUseCase.addEmployee(employeeRequestDto));
+        assertEquals(COMPANY_NOT_FOUND_404, badRequestException.getMessage());
+        verify(employeeRepository, never()).insertEmployee(any(), any());
+        verifyNoInteractions(outboxRepository);
     }
 
     @Test
     void shouldUpdateEmployee_Success() {
-        when(employeeRepository.findEmployee(employee.getIdEmployee())).thenReturn(Optional.of(employee));
+        when(employeeRepository.patchEmployee(eq(employee.getIdEmployee()), any())).thenReturn(true);
         employeeUseCase.updateEmployee(employee.getIdEmployee(), updateEmployee);
 
-        ArgumentCaptor<Employee> employeeCaptor = ArgumentCaptor.forClass(Employee.class);
-        verify(employeeRepository, times(1)).saveEmployee(employeeCaptor.capture());
-        var updatedEmployee = employeeCaptor.getValue();
-
-        verify(employeeRepository, times(1)).findEmployee(employee.getIdEmployee());
-        assertDoesNotThrow(() -> employeeUseCase.updateEmployee(employee.getIdEmployee(), updateEmployee));
-        assertEquals(updateEmployee.name(), updatedEmployee.getName());
-        assertEquals(updateEmployee.surname(), updatedEmployee.getSurname());
-        assertEquals(updateEmployee.email(), updatedEmployee.getEmail());
-        assertEquals(updateEmployee.cpf(), updatedEmployee.getCpf());
-        assertEquals(updateEmployee.salary(), updatedEmployee.getSalary());
-        assertEquals(updateEmployee.position(), updatedEmployee.getPosition());
-
+        ArgumentCaptor<EmployeePatch> patchCaptor = ArgumentCaptor.forClass(EmployeePatch.class);
+        verify(employeeRepository, times(1)).patchEmployee(eq(employee.getIdEmployee()), patchCaptor.capture());
+        var patch = patchCaptor.getValue();
+
+        verify(employeeRepository, never()).findEmployee(any());
+        assertEquals(updateEmployee.name(), patch.getName());
+        assertEquals(updateEmployee.surname(), patch.getSurname());
+        assertEquals(updateEmployee.email(), patch.getEmail());
+        assertEquals(updateEmployee.cpf(), patch.getCpf());
+        assertEquals(SALARY_CENTS, patch.getSalaryCents());
+        assertEquals(updateEmployee.position(), patch.getPosition());
+        verify(payrollUseCase, times(1)).employeeChanged(employee.getIdEmployee());
+        var event = appendedEvent();
+        assertEquals(employee.getIdEmployee(), event.getAggregateId());
+        assertEquals(ChangeType.UPDATED, event.getType());
+        assertEquals(List.of("cpf", "name", "surname", "email", "salary", "position"), event.getFields());
     }
 
     @Test
     void shouldUpdateEmail_Success() {
-        when(employeeRepository.findEmployee(employee.getIdEmployee())).thenReturn(Optional.of(employee));
+        when(employeeRepository.patchEmployee(eq(employee.getIdEmployee()), any())).thenReturn(true);
         employeeUseCase.updtadeEmail(employee.getIdEmployee(), updateEmployee);
 
-        ArgumentCaptor<Employee> employeeCaptor = ArgumentCaptor.forClass(Employee.class);
-        verify(employeeRepository, times(1)).saveEmployee(employeeCaptor.capture());
-        var updatedEmployee = employeeCaptor.getValue();
+        ArgumentCaptor<EmployeePatch> patchCaptor = ArgumentCaptor.forClass(EmployeePatch.class);
+        verify(employeeRepository, times(1)).patchEmployee(eq(employee.getIdEmployee()), patchCaptor.capture());
+        var patch = patchCaptor.getValue();
 
-        verify(employeeRepository, times(1)).findEmployee(employee.getIdEmployee());
-        assertDoesNotThrow(() -> employeeUseCase.updateEmployee(employee.getIdEmployee(), updateEmployee));
-        assertEquals(updateEmployee.email(), updatedEmployee.getEmail());
+        assertEquals(updateEmployee.email(), patch.getEmail());
+        assertNull(patch.getName());
+        assertNull(patch.getCpf());
+        assertNull(patch.getSalaryCents());
+        verifyNoInteractions(payrollUseCase);
+        assertEquals(List.of("email"), appendedEvent().getFields());
     }
 
     @Test
     void shouldDeleteEmployee_Success() {
-        when(employeeRepository.findEmployee(employee.getIdEmployee())).thenReturn(Optional.of(employee));
+        UUID companyId = UUID.randomUUID();
+        when(employeeRepository.findCompanyId(employee.getIdEmployee())).thenReturn(Optional.of(companyId));
 
         assertDoesNotThrow(() -> employeeUseCase.deleteEmployee(employee.getIdEmployee()));
 
-        verify(employeeRepository, times(1)).findEmployee(employee.getIdEmployee());
+        verify(employeeRepository, times(1)).findCompanyId(employee.getIdEmployee());
         verify(employeeRepository, times(1)).deleteEmployee(employee.getIdEmployee());
         verifyNoMoreInteractions(employeeRepository);
+        verify(payrollUseCase, times(1)).companyChanged(companyId);
+        var event = appendedEvent();
+        assertEquals(employee.getIdEmployee(), event.getAggregateId());
+        assertEquals(ChangeType.DELETED, event.getType());
     }
 
     @Test
@@ -195,39 +298,58 @@ class EmployeeUseCaseTest {
 
     @Test
     void shouldReturnEmployeeAlreadyExists_BadRequestException() {
-        when(employeeRepository.findCpf(employee.getCpf())).thenReturn(Optional.of(employee));
+        UUID companyId = UUID.randomUUID();
+        when(companyRepository.findCompanyIdByCnpj(CNPJ)).thenReturn(Optional.of(companyId));
+        when(employeeRepository.insertEmployee(any(), eq(companyId))).thenThrow(new DuplicatedEntryException("Duplicated CPF"));
         var badRequestException = assertThrows(BadRequestException.class,
                 () -> employeeUseCase.addEmployee(employeeRequestDto));
         assertEquals(EMPLOYEE_ALREADY_EXIST_400, badRequestException.getMessage());
-        verify(employeeRepository, never()).saveEmployee(employee);
+        verify(employeeRepository, never()).findCpf(any());
+    }
+
+    @Test
+    void shouldNotUpdateEmployee_DuplicatedCpf() {
+        when(employeeRepository.patchEmployee(eq(employee.getIdEmployee()), any()))
+                .thenThrow(new DuplicatedEntryException("Duplicated CPF"));
+        var badRequestException = assertThrows(BadRequestException.class,
+                () -> employeeUseCase.updateEmployee(employee.getIdEmployee(), updateEmployee));
+        assertEquals(EMPLOYEE_ALREADY_EXIST_400, badRequestException.getMessage());
     }
 
     @Test
     void shouldNotUpdateEmployee_NotFoundExceptio() {
-        when(employeeRepository.findEmployee(employee.getIdEmployee())).thenReturn(Optional.empty());
+        when(employeeRepository.patchEmployee(eq(employee.getIdEmployee()), any())).thenReturn(false);
         var notFoundException = assertThrows(NotFoundException.class,
                 () -> employeeUseCase.updateEmployee(employee.getIdEmployee(), updateEmployee));
         assertEquals(EMPLOYEE_NOT_FOUND_404, notFoundException.getMessage());
-        verify(employeeRepository, times(1)).findEmployee(employee.getIdEmployee());
+        verify(employeeRepository, times(1)).patchEmployee(eq(employee.getIdEmployee()), any());
+        verifyNoInteractions(outboxRepository);
     }
 
     @Test
     void shouldNotUpdateEmailEmployee_NotFoundExceptio() {
-        when(employeeRepository.findEmployee(employee.getIdEmployee())).thenReturn(Optional.empty());
+        when(employeeRepository.patchEmployee(eq(employee.getIdEmployee()), any())).thenReturn(false);
         var notFoundException = assertThrows(NotFoundException.class,
                 () -> employeeUseCase.updtadeEmail(employee.getIdEmployee(), updateEmployee));
         assertEquals(EMPLOYEE_NOT_FOUND_404, notFoundException.getMessage());
-        verify(employeeRepository, times(1)).findEmployee(employee.getIdEmployee());
+        verify(employeeRepository, times(1)).patchEmployee(eq(employee.getIdEmployee()), any());
     }
 
     @Test
     void shouldNotDeleteEmployee_NotFoundException() {
-        when(employeeRepository.findEmployee(employee.getIdEmployee())).thenReturn(Optional.empty());
+        when(employeeRepository.findCompanyId(employee.getIdEmployee())).thenReturn(Optional.empty());
 
         var notFoundException = assertThrows(NotFoundException.class,
                 () -> employeeUseCase.deleteEmployee(employee.getIdEmployee()));
 
         assertEquals(EMPLOYEE_NOT_FOUND_404, notFoundException.getMessage());
-        verify(employeeRepository, times(1)).findEmployee(employee.getIdEmployee());
+        verify(employeeRepository, times(1)).findCompanyId(employee.getIdEmployee());
+        verify(employeeRepository, never()).deleteEmployee(any());
+    }
+
+    private ChangeEvent appendedEvent() {
+        ArgumentCaptor<ChangeEvent> eventCaptor = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(outboxRepository, times(1)).append(eventCaptor.capture());
+        return eventCaptor.getValue();
     }
-}
\ No newline at end of file
+}
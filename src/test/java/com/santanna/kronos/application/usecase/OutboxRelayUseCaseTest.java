@@ -0,0 +1,111 @@
+package com.santanna.kronos.application.usecase;
+
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
+import com.santanna.kronos.domain.repository.OutboxRepository;
+import com.santanna.kronos.infrastructure.configuration.MetricsConfig;
+import com.santanna.kronos.infrastructure.outbox.InMemoryChangeEventSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayUseCaseTest {
+
+    public static final int BATCH = 2;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+    private final InMemoryChangeEventSink sink = new InMemoryChangeEventSink();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private OutboxRelayUseCase outboxRelayUseCase;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelayUseCase = new OutboxRelayUseCase(outboxRepository, sink, registry, BATCH);
+    }
+
+    @Test
+    void shouldPublishBatchesInOrderUntilOutboxIsDrained() {
+        var employeeId = UUID.randomUUID();
+        var first = event(1, employeeId, ChangeType.CREATED);
+        var second = event(2, employeeId, ChangeType.UPDATED);
+        var third = event(3, employeeId, ChangeType.DELETED);
+        outboxHolds(List.of(first, second), List.of(third));
+
+        assertEquals(3, outboxRelayUseCase.relayPending());
+
+        assertEquals(List.of(1L, 2L, 3L), sink.getEvents().stream().map(ChangeEvent::getId).toList());
+        verify(outboxRepository, times(2)).publishPending(eq(BATCH), any());
+        assertEquals(3, registry.get(MetricsConfig.OUTBOX_PUBLISHED).counter().count());
+        assertEquals(3, registry.get(MetricsConfig.OUTBOX_RELAY_LAG).timer().count());
+    }
+
+    @Test
+    void shouldReportAgeOfOldestPendingEvent() {
+        when(outboxRepository.findOldestPending()).thenReturn(Optional.of(Instant.now().minus(Duration.ofSeconds(5))));
+        outboxHolds(List.of());
+
+        assertEquals(0, outboxRelayUseCase.relayPending());
+
+        var age = registry.get(MetricsConfig.OUTBOX_PENDING_AGE).timeGauge().value(TimeUnit.SECONDS);
+        assertTrue(age >= 5, "idade " + age);
+        assertTrue(sink.getEvents().isEmpty());
+    }
+
+    @Test
+    void shouldKeepEventsWhenSinkFails() {
+        when(outboxRepository.publishPending(eq(BATCH), any())).thenAnswer(invocation -> {
+            Consumer<List<ChangeEvent>> publisher = invocation.getArgument(1);
+            publisher.accept(List.of(event(1, UUID.randomUUID(), ChangeType.CREATED)));
+            return List.of();
+        });
+        var failingRelay = new OutboxRelayUseCase(outboxRepository, events -> {
+            throw new IllegalStateException("destino indisponível");
+        }, registry, BATCH);
+
+        assertThrows(IllegalStateException.class, failingRelay::relayPending);
+        assertEquals(0, registry.get(MetricsConfig.OUTBOX_PUBLISHED).counter().count());
+    }
+
+    // Cada chamada de publishPending entrega o próximo lote ao publisher, como o repositório real
+    @SafeVarargs
+    private void outboxHolds(List<ChangeEvent>... batches) {
+        Queue<List<ChangeEvent>> pending = new ArrayDeque<>(List.of(batches));
+        when(outboxRepository.publishPending(eq(BATCH), any())).thenAnswer(invocation -> {
+            var batch = pending.isEmpty() ? List.<ChangeEvent>of() : pending.poll();
+            if (!batch.isEmpty()) {
+                Consumer<List<ChangeEvent>> publisher = invocation.getArgument(1);
+                publisher.accept(batch);
+            }
+            return batch;
+        });
+    }
+
+    private static ChangeEvent event(long id, UUID employeeId, ChangeType type) {
+        return ChangeEvent.builder()
+                .id(id)
+                .aggregateType(AggregateType.EMPLOYEE)
+                .aggregateId(employeeId)
+                .type(type)
+                .occurredAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.santanna.kronos.application.usecase;
+
+import com.santanna.kronos.application.exception.NotFoundException;
+import com.santanna.kronos.domain.model.PayrollSummary;
+import com.santanna.kronos.domain.repository.PayrollRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PayrollUseCaseTest {
+
+    public static final String COMPANY_NOT_FOUND_404 = "Empresa não encontrada";
+
+    @Mock
+    private PayrollRepository payrollRepository;
+    private PayrollUseCase payrollUseCase;
+    private final UUID companyId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        payrollUseCase = new PayrollUseCase(payrollRepository, 500);
+    }
+
+    @Test
+    void shouldMarkChangedCompaniesInTheRepository() {
+        var employeeId = UUID.randomUUID();
+        var otherCompanyId = UUID.randomUUID();
+
+        payrollUseCase.companyChanged(companyId);
+        payrollUseCase.companiesChanged(List.of(companyId, otherCompanyId));
+        payrollUseCase.employeeChanged(employeeId);
+
+        verify(payrollRepository).markStale(List.of(companyId));
+        verify(payrollRepository).markStale(List.of(companyId, otherCompanyId));
+        verify(payrollRepository).markStaleByEmployee(employeeId);
+        verify(payrollRepository, never()).refreshCompany(any());
+    }
+
+    @Test
+    void shouldRefreshEachStaleCompanyAndKeepGoingAfterFailure() {
+        var otherCompanyId = UUID.randomUUID();
+        when(payrollRepository.findStaleCompanies(500)).thenReturn(List.of(companyId, otherCompanyId));
+        var failure = new RuntimeException("falha no recálculo");
+        doThrow(failure).when(payrollRepository).refreshCompany(companyId);
+
+        var thrown = assertThrows(RuntimeException.class, () -> payrollUseCase.refreshPending());
+
+        assertSame(failure, thrown);
+        verify(payrollRepository).refreshCompany(otherCompanyId);
+    }
+
+    @Test
+    void shouldReadSummaryWithoutRefreshing() {
+        var summary = PayrollSummary.builder().companyId(companyId).headcount(4).totalSalaryCents(1000000).build();
+        when(payrollRepository.findCompanySummary(companyId)).thenReturn(Optional.of(summary));
+
+        var response = payrollUseCase.findCompanySummary(companyId);
+
+        verify(payrollRepository).findCompanySummary(companyId);
+        verifyNoMoreInteractions(payrollRepository);
+        assertEquals(4, response.headcount());
+        assertEquals(2500.0, response.averageSalary());
+    }
+
+    @Test
+    void shouldNotReturnSummary_CompanyNotFound() {
+        when(payrollRepository.findCompanySummary(companyId)).thenReturn(Optional.empty());
+
+        var notFoundException = assertThrows(NotFoundException.class,
+                () -> payrollUseCase.findCompanySummary(companyId));
+
+        assertEquals(COMPANY_NOT_FOUND_404, notFoundException.getMessage());
+        verify(payrollRepository, never()).refreshCompany(any());
+    }
+}
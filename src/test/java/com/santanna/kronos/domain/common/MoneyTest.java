@@ -0,0 +1,45 @@
+package com.santanna.kronos.domain.common;
+
+import com.santanna.kronos.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void shouldConvertDoubleToNearestCent() {
+        assertEquals(10, Money.toCents(0.1));
+        assertEquals(123457, Money.toCents(1234.567));
+        assertEquals(1999, Money.toCents(19.99));
+        assertThrows(DomainException.class, () -> Money.toCents(Double.NaN));
+        assertThrows(DomainException.class, () -> Money.toCents(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void shouldRoundTripDecimalColumns() {
+        assertEquals(150001, Money.toCents(new BigDecimal("1500.01")));
+        assertEquals(150001, Money.toCents(new BigDecimal("1500.005")));
+        assertEquals(new BigDecimal("1500.01"), Money.toDecimal(150001));
+        assertEquals(1500.01, Money.toDouble(150001));
+    }
+
+    @Test
+    void shouldSumCentsWithoutFloatingPointDrift() {
+        long total = 0;
+        for (int i = 0; i < 1_000; i++) {
+            total += Money.toCents(0.1);
+        }
+        assertEquals(100.0, Money.toDouble(total));
+    }
+
+    @Test
+    void shouldAverageRoundingHalfUpToTheCent() {
+        assertEquals(33, Money.average(100, 3));
+        assertEquals(67, Money.average(200, 3));
+        assertEquals(-33, Money.average(-100, 3));
+        assertThrows(DomainException.class, () -> Money.average(100, 0));
+    }
+}
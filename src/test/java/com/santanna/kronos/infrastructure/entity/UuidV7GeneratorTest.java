@@ -0,0 +1,59 @@
+package com.santanna.kronos.infrastructure.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void shouldGenerateVersion7WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        var uuid = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= after + 1);
+    }
+
+    @Test
+    void shouldGenerateIdsInBinaryOrder() {
+        var ids = IntStream.range(0, 100_000).mapToObj(i -> UuidV7Generator.next()).toList();
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(Arrays.compareUnsigned(bytes(ids.get(i - 1)), bytes(ids.get(i))) < 0,
+                    "fora de ordem na posição " + i);
+        }
+    }
+
+    @Test
+    void shouldNotRepeatIdsAcrossThreads() throws Exception {
+        var ids = new ConcurrentLinkedQueue<UUID>();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> IntStream.range(0, 20_000).forEach(i -> ids.add(UuidV7Generator.next())));
+            }
+        }
+
+        assertEquals(160_000, new HashSet<>(List.copyOf(ids)).size());
+    }
+
+    // Mesma representação do BINARY(16) gravado no banco
+    private static byte[] bytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
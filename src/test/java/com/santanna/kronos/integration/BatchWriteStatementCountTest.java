@@ -0,0 +1,76 @@
+package com.santanna.kronos.integration;
+
+import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+import com.santanna.kronos.infrastructure.persistence.CompanyPersistence;
+import com.santanna.kronos.infrastructure.persistence.EmployeePersistence;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Com hibernate.jdbc.batch_size e order_inserts/order_updates, as linhas de uma mesma tabela saem num único
+// PreparedStatement executado em lotes; sem a ordenação, cada troca de tabela prepara um novo comando
+@SpringBootTest
+public class BatchWriteStatementCountTest {
+    public static final int COMPANIES = 3;
+    public static final int EMPLOYEES_PER_COMPANY = 50;
+
+    @Autowired
+    private CompanyPersistence companyPersistence;
+    @Autowired
+    private EmployeePersistence employeePersistence;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldBatchCascadedInsertsOrderedByTable() {
+        List<CompanyEntity> companies = new ArrayList<>();
+        for (int c = 0; c < COMPANIES; c++) {
+            companies.add(EntityFixtures.companyWithEmployees(EMPLOYEES_PER_COMPANY));
+        }
+
+        statistics.clear();
+        companyPersistence.saveAllAndFlush(companies);
+
+        // Um comando para as empresas e outro para os colaboradores, em vez de 6 intercalados
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(COMPANIES + COMPANIES * EMPLOYEES_PER_COMPANY);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBatchUpdatesOfLoadedEmployees() {
+        var company = companyPersistence.saveAndFlush(EntityFixtures.companyWithEmployees(EMPLOYEES_PER_COMPANY));
+        var anotherCompany = companyPersistence.saveAndFlush(EntityFixtures.companyWithEmployees(EMPLOYEES_PER_COMPANY));
+        var ids = new ArrayList<>(company.getEmployees().stream().map(EmployeeEntity::getIdEmployee).toList());
+        ids.addAll(anotherCompany.getEmployees().stream().map(EmployeeEntity::getIdEmployee).toList());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            var employees = employeePersistence.findAllById(ids);
+            statistics.clear();
+            employees.forEach(employee -> employee.setSalary(employee.getSalary().add(BigDecimal.valueOf(100))));
+            employeePersistence.flush();
+        });
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(2L * EMPLOYEES_PER_COMPANY);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
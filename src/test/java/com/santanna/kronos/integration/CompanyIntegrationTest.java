@@ -5,26 +5,37 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.santanna.kronos.application.dto.company.CompanyRequestDto;
 import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.application.dto.company.DeletionJobDto;
+import com.santanna.kronos.application.dto.company.DeletionStatus;
 import com.santanna.kronos.application.dto.company.UpdateCompanyRequestDto;
+import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
+import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
 import com.santanna.kronos.application.exception.NotFoundException;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "kronos.company.delete.chunk-size=50")
 @AutoConfigureMockMvc
 public class CompanyIntegrationTest {
     public static final String COMPANY_NOT_FOUND_404 = "Empresa não encontrada";
@@ -35,6 +46,8 @@ public class CompanyIntegrationTest {
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
     private CompanyRequestDto companyRequestDto;
     private UpdateCompanyRequestDto updateCompanyRequestDto;
 
@@ -62,6 +75,15 @@ public class CompanyIntegrationTest {
                 .contains(companyRequestDto.cnpj());
     }
     @Test
+    void shouldRejectDuplicatedCnpj() throws Exception {
+        methodPost_isCreated();
+
+        mockMvc.perform(post(BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(companyRequestDto)))
+                .andExpect(status().isBadRequest());
+    }
+    @Test
     void shouldUpdateCompanyAndGetCompany() throws Exception {
         methodPost_isCreated();
         var listResult = methodGetPaginatedCompanies();
@@ -83,6 +105,60 @@ public class CompanyIntegrationTest {
         assertThat(responseDto.nameCompany()).isEqualTo(updateCompanyRequestDto.nameCompany());
     }
     @Test
+    void shouldAnswerNotModifiedWhileCompanyIsUnchanged() throws Exception {
+        methodPost_isCreated();
+        var companyId = filterByCnpjToGetID(getCompanyList(methodGetPaginatedCompanies())).id();
+
+        var eTag = methodGetById(companyId).getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var notModified = mockMvc.perform(get(BASE_PATH + "/" + companyId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+        // uma única consulta de versão e contagem, sem carregar a empresa
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        // a contagem de colaboradores faz parte do ETag da empresa
+        importEmployees(1);
+        var changed = mockMvc.perform(get(BASE_PATH + "/" + companyId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        var hiredTag = changed.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(hiredTag).isNotEqualTo(eTag);
+
+        mockMvc.perform(patch(BASE_PATH + "/" + companyId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nameCompany\":\"Novo nome\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(BASE_PATH + "/" + companyId).header(HttpHeaders.IF_NONE_MATCH, hiredTag))
+                .andExpect(status().isOk());
+    }
+    @Test
+    void shouldRenameCompanyWithoutLoadingEmployees() throws Exception {
+        methodPost_isCreated();
+        importEmployees(50);
+        var companyId = filterByCnpjToGetID(getCompanyList(methodGetPaginatedCompanies())).id();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(patch(BASE_PATH + "/" + companyId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nameCompany\":\"Novo nome\"}"))
+                .andExpect(status().isOk());
+
+        // O UPDATE, a sequência dos colaboradores (o nome aparece no feed deles) e o evento no outbox
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        var responseDto = objectMapper.readValue(methodGetById(companyId).getResponse().getContentAsString(),
+                CompanyResponseDto.class);
+        assertThat(responseDto.nameCompany()).isEqualTo("Novo nome");
+        assertThat(responseDto.cnpj()).isEqualTo(companyRequestDto.cnpj());
+        assertThat(responseDto.employeeCount()).isEqualTo(50);
+    }
+    @Test
     void shouldCompanyGetIdAndGetCompany() throws Exception {
         methodPost_isCreated();
         var listResult = methodGetPaginatedCompanies();
@@ -116,6 +192,150 @@ public class CompanyIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldDeleteCompanyWithEmployeesWithoutLoadingThem() throws Exception {
+        methodPost_isCreated();
+        importEmployees(200);
+        var companyId = filterByCnpjToGetID(getCompanyList(methodGetPaginatedCompanies())).id();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(delete(BASE_PATH + "/" + companyId))
+                .andExpect(status().isNoContent());
+
+        // Existência, lápides, DELETE dos colaboradores, DELETE da empresa, ids das lápides e o evento da empresa;
+        // os eventos dos colaboradores vão num lote JDBC fora das estatísticas do Hibernate
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        mockMvc.perform(get(BASE_PATH + "/" + companyId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldDeleteCompanyInBackgroundAndReportProgress() throws Exception {
+        methodPost_isCreated();
+        importEmployees(120);
+        var companyId = filterByCnpjToGetID(getCompanyList(methodGetPaginatedCompanies())).id();
+
+        var started = mockMvc.perform(delete(BASE_PATH + "/" + companyId).param("async", "true"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse();
+        var location = started.getHeader("Location");
+        assertThat(objectMapper.readValue(started.getContentAsString(), DeletionJobDto.class).totalEmployees())
+                .isEqualTo(120);
+
+        DeletionJobDto job;
+        long deadline = System.currentTimeMillis() + 10_000;
+        do {
+            Thread.sleep(20);
+            var json = mockMvc.perform(get(location))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            job = objectMapper.readValue(json, DeletionJobDto.class);
+        } while (job.status() == DeletionStatus.RUNNING && System.currentTimeMillis() < deadline);
+
+        assertThat(job.status()).isEqualTo(DeletionStatus.COMPLETED);
+        assertThat(job.deletedEmployees()).isEqualTo(120);
+        mockMvc.perform(get(BASE_PATH + "/" + companyId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldCountEmployeesWithSingleQuery() throws Exception {
+        methodPost_isCreated();
+        for (int i = 0; i < 3; i++) {
+            long randomCpf = 10000000000L + (long) (Math.random() * 90000000000L);
+            mockMvc.perform(post("/v1/employee")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new EmployeeRequestDto(
+                                    Long.toString(randomCpf), "Nome", "Sobrenome", "mail@exemplo.com",
+                                    1500.0, "Developer", companyRequestDto.cnpj()))))
+                    .andExpect(status().isCreated());
+        }
+        var companyId = filterByCnpjToGetID(getCompanyList(methodGetPaginatedCompanies())).id();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var getResult = methodGetById(companyId);
+        var responseDto = objectMapper.readValue(getResult.getResponse().getContentAsString(), CompanyResponseDto.class);
+
+        assertThat(responseDto.employeeCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldWalkCompanyEmployeesByCursorWithOneQueryPerPage() throws Exception {
+        methodPost_isCreated();
+        importEmployees(25);
+        var companyId = filterByCnpjToGetID(getCompanyList(methodGetPaginatedCompanies())).id();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<UUID> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get(BASE_PATH + "/" + companyId + "/employees").param("size", "10");
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+            statistics.clear();
+            var json = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            CursorPage<EmployeeResponseDto> page = objectMapper.readValue(json, new TypeReference<>() {
+            });
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(10)
+                    .allSatisfy(e -> assertThat(e.nameCompany()).isEqualTo(NAME_COMPANY));
+            page.getContent().forEach(e -> ids.add(e.id()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldReturnCompanyEmployeeTotalOnlyWhenRequested() throws Exception {
+        methodPost_isCreated();
+        importEmployees(3);
+        var companyId = filterByCnpjToGetID(getCompanyList(methodGetPaginatedCompanies())).id();
+
+        var json = mockMvc.perform(get(BASE_PATH + "/" + companyId + "/employees")
+                        .param("size", "2")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        CursorPage<EmployeeResponseDto> page = objectMapper.readValue(json, new TypeReference<>() {
+        });
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotListEmployeesOfUnknownCompany() throws Exception {
+        mockMvc.perform(get(BASE_PATH + "/" + UUID.randomUUID() + "/employees"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void importEmployees(int count) throws Exception {
+        var ndjson = new StringBuilder();
+        long firstCpf = 10000000000L + (long) (Math.random() * 80000000000L);
+        for (int i = 0; i < count; i++) {
+            ndjson.append(objectMapper.writeValueAsString(new EmployeeRequestDto(Long.toString(firstCpf + i),
+                    "Nome", "Sobrenome", "mail@exemplo.com", 1500.0, "Developer", companyRequestDto.cnpj()))).append('\n');
+        }
+        mockMvc.perform(post("/v1/employee/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson.toString()))
+                .andExpect(status().isOk());
+    }
+
     private void methodPost_isCreated() throws Exception {
         mockMvc.perform(post(BASE_PATH)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -132,7 +352,7 @@ public class CompanyIntegrationTest {
     private MvcResult methodGetPaginatedCompanies() throws Exception {
         return mockMvc.perform(get(BASE_PATH)
                         .param("page", "0")
-                        .param("size", "10"))
+                        .param("size", "1000"))
                 .andExpect(status().isOk())
                 .andReturn();
     }
@@ -0,0 +1,173 @@
+package com.santanna.kronos.integration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.application.dto.company.CompanyRequestDto;
+import com.santanna.kronos.application.dto.employee.EmployeeChangeDto;
+import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
+import com.santanna.kronos.domain.common.ChangeFeed;
+import com.santanna.kronos.domain.model.ChangeType;
+import com.santanna.kronos.infrastructure.persistence.CompanyPersistence;
+import com.santanna.kronos.infrastructure.persistence.EmployeePersistence;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class EmployeeChangeFeedIntegrationTest {
+
+    private static final String BASE_PATH = "/v1/employee/changes";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CompanyPersistence companyPersistence;
+    @Autowired
+    private EmployeePersistence employeePersistence;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private String cnpj;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cnpj = Long.toString(1000000000000L + (long) (Math.random() * 9000000000000L));
+        mockMvc.perform(post("/v1/company")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CompanyRequestDto(cnpj, "Feed"))))
+                .andExpect(status().isCreated());
+        companyId = companyPersistence.findIdByCnpj(cnpj).orElseThrow();
+    }
+
+    @Test
+    void shouldReturnOnlyChangesAfterToken() throws Exception {
+        var kept = addEmployee();
+        var updated = addEmployee();
+        var removed = addEmployee();
+        var token = catchUp(null);
+
+        var created = addEmployee();
+        mockMvc.perform(patch("/v1/employee/" + updated)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"position\":\"Tech Lead\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/employee/" + removed))
+                .andExpect(status().isNoContent());
+
+        var feed = changes(token, 100);
+
+        assertThat(feed.isHasMore()).isFalse();
+        assertThat(feed.getChanges()).extracting(EmployeeChangeDto::id)
+                .containsExactly(created, updated, removed)
+                .doesNotContain(kept);
+        assertThat(feed.getChanges()).extracting(EmployeeChangeDto::type)
+                .containsExactly(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.DELETED);
+        assertThat(feed.getChanges().get(1).employee().position()).isEqualTo("Tech Lead");
+        assertThat(feed.getChanges().get(2).employee()).isNull();
+        assertThat(changes(feed.getNextToken(), 100).getChanges()).isEmpty();
+    }
+
+    @Test
+    void shouldWalkChangesInBoundedBatches() throws Exception {
+        var token = catchUp(null);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(addEmployee());
+        }
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<UUID> seen = new ArrayList<>();
+        ChangeFeed<EmployeeChangeDto> feed;
+        do {
+            statistics.clear();
+            feed = changes(token, 3);
+            // Um SELECT de colaboradores e outro de lápides por lote, sem carregar entidades
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(feed.getChanges()).hasSizeLessThanOrEqualTo(3);
+            feed.getChanges().forEach(change -> seen.add(change.id()));
+            token = feed.getNextToken();
+        } while (feed.isHasMore());
+
+        assertThat(seen).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void shouldFeedEmployeesOfRenamedAndDeletedCompanies() throws Exception {
+        var first = addEmployee();
+        var second = addEmployee();
+        var token = catchUp(null);
+
+        mockMvc.perform(patch("/v1/company/" + companyId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nameCompany\":\"Novo nome\"}"))
+                .andExpect(status().isOk());
+        var renamed = changes(token, 100);
+        assertThat(renamed.getChanges()).extracting(EmployeeChangeDto::id).containsExactlyInAnyOrder(first, second);
+        assertThat(renamed.getChanges()).allSatisfy(change -> {
+            assertThat(change.type()).isEqualTo(ChangeType.UPDATED);
+            assertThat(change.employee().nameCompany()).isEqualTo("Novo nome");
+        });
+
+        mockMvc.perform(delete("/v1/company/" + companyId))
+                .andExpect(status().isNoContent());
+        var deleted = changes(renamed.getNextToken(), 100);
+        assertThat(deleted.getChanges()).extracting(EmployeeChangeDto::id).containsExactlyInAnyOrder(first, second);
+        assertThat(deleted.getChanges()).extracting(EmployeeChangeDto::type).containsOnly(ChangeType.DELETED);
+    }
+
+    @Test
+    void shouldRejectInvalidToken() throws Exception {
+        mockMvc.perform(get(BASE_PATH).param("since", "nao-e-um-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private UUID addEmployee() throws Exception {
+        var cpf = Long.toString(10000000000L + (long) (Math.random() * 80000000000L));
+        mockMvc.perform(post("/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EmployeeRequestDto(cpf, "Nome", "Sobrenome",
+                                "mail@exemplo.com", 1500.0, "Developer", cnpj))))
+                .andExpect(status().isCreated());
+        return employeePersistence.findViewByCpf(cpf).orElseThrow().getIdEmployee();
+    }
+
+    // Percorre o feed até o fim e devolve o token de quem está em dia
+    private String catchUp(String token) throws Exception {
+        ChangeFeed<EmployeeChangeDto> feed;
+        do {
+            feed = changes(token, 1000);
+            token = feed.getNextToken();
+        } while (feed.isHasMore());
+        return token;
+    }
+
+    private ChangeFeed<EmployeeChangeDto> changes(String since, int size) throws Exception {
+        var request = get(BASE_PATH).param("size", Integer.toString(size));
+        if (since != null) {
+            request.param("since", since);
+        }
+        var json = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, new TypeReference<>() {
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.santanna.kronos.integration;
+
+import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
+import com.santanna.kronos.application.usecase.EmployeeUseCase;
+import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+import com.santanna.kronos.infrastructure.persistence.CompanyPersistence;
+import com.santanna.kronos.infrastructure.persistence.EmployeePersistence;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Conta comandos SQL, não mede tempo: a latência da contratação fica com os benchmarks do jmh (build.gradle.kts)
+@SpringBootTest
+public class EmployeeHiringStatementCountTest {
+    public static final int SMALL_COMPANY = 10;
+    public static final int LARGE_COMPANY = 5_000;
+    public static final int HIRES = 20;
+
+    @Autowired
+    private EmployeeUseCase employeeUseCase;
+    @Autowired
+    private CompanyPersistence companyPersistence;
+    @Autowired
+    private EmployeePersistence employeePersistence;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldIssueSameStatementsPerHireRegardlessOfCompanySize() {
+        var small = hire(seedCompany(SMALL_COMPANY));
+        var large = hire(seedCompany(LARGE_COMPANY));
+
+        assertThat(large.statements()).isEqualTo(small.statements());
+        assertThat(large.entitiesLoaded()).isZero();
+        assertThat(small.entitiesLoaded()).isZero();
+    }
+
+    private Result hire(String cnpj) {
+        statistics.clear();
+        for (int i = 0; i < HIRES; i++) {
+            employeeUseCase.addEmployee(new EmployeeRequestDto(
+                    randomDigits(11), "Nome", "Sobrenome", "mail@exemplo.com", 1500.0, "Developer", cnpj));
+        }
+        return new Result(statistics.getPrepareStatementCount(), statistics.getEntityLoadCount());
+    }
+
+    private String seedCompany(int employees) {
+        var cnpj = randomDigits(13);
+        var company = companyPersistence.save(CompanyEntity.builder().cnpj(cnpj).nameCompany("Empresa " + employees).build());
+        List<EmployeeEntity> entities = new ArrayList<>(employees);
+        IntStream.range(0, employees).forEach(i -> entities.add(EmployeeEntity.builder()
+                .cpf(randomDigits(11))
+                .name("Nome")
+                .surname("Sobrenome")
+                .email("mail@exemplo.com")
+                .salary(new BigDecimal("1000.00"))
+                .position("Developer")
+                .company(company)
+                .build()));
+        employeePersistence.saveAll(entities);
+        return cnpj;
+    }
+
+    private static String randomDigits(int length) {
+        long min = (long) Math.pow(10, length - 1);
+        return Long.toString(min + (long) (Math.random() * 9 * min));
+    }
+
+    private record Result(long statements, long entitiesLoaded) {
+    }
+}
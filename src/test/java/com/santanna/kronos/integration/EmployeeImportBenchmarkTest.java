@@ -0,0 +1,64 @@
+package com.santanna.kronos.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.application.dto.company.CompanyRequestDto;
+import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
+import com.santanna.kronos.application.dto.employee.ImportResultDto;
+import com.santanna.kronos.infrastructure.persistence.EmployeePersistence;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class EmployeeImportBenchmarkTest {
+    public static final int ROWS = 100_000;
+    public static final String CNPJ = "5550000000001";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EmployeePersistence employeePersistence;
+
+    @Test
+    void shouldImportOneHundredThousandEmployeesWellUnderAMinute() throws Exception {
+        mockMvc.perform(post("/v1/company")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CompanyRequestDto(CNPJ, "Empresa"))))
+                .andExpect(status().isCreated());
+
+        var ndjson = new ByteArrayOutputStream();
+        var writer = objectMapper.writer();
+        for (int i = 0; i < ROWS; i++) {
+            writer.writeValue(ndjson, new EmployeeRequestDto(String.valueOf(10000000000L + i), "Nome", "Sobrenome",
+                    "mail@exemplo.com", 1500.0, "Developer", CNPJ));
+            ndjson.write('\n');
+        }
+
+        long start = System.nanoTime();
+        var result = mockMvc.perform(post("/v1/employee/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson.toByteArray()))
+                .andExpect(status().isOk())
+                .andReturn();
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        var importResult = objectMapper.readValue(result.getResponse().getContentAsString(), ImportResultDto.class);
+
+        assertThat(importResult.imported()).isEqualTo(ROWS);
+        assertThat(importResult.errors()).isEmpty();
+        assertThat(employeePersistence.count()).isEqualTo(ROWS);
+        assertThat(elapsed).isLessThan(Duration.ofMinutes(1));
+    }
+}
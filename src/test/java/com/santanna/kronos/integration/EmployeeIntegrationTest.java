@@ -3,21 +3,34 @@ package com.santanna.kronos.integration;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.application.dto.company.CompanyRequestDto;
 import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
 import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.dto.employee.ImportResultDto;
 import com.santanna.kronos.application.dto.employee.UpdateRequestDto;
 import com.santanna.kronos.application.exception.NotFoundException;
+import com.santanna.kronos.domain.common.CursorPage;
 import com.santanna.kronos.domain.common.PaginatedList;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,18 +48,31 @@ public class EmployeeIntegrationTest {
     public static final String BASE_PATH = "/v1/employee";
     public static final String EMPLOYEE_NOT_FOUND_404 = "Colaborador não encontrado";
     public static final String EMAIL_UPDATE = "/email/update/";
+    public static final String COMPANY_PATH = "/v1/company";
 
     @Autowired
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
     private EmployeeRequestDto employeeRequestDto;
     private UpdateRequestDto updateEmployeeDto;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
         long randomCpf = 10000000000L + (long) (Math.random() * 90000000000L);
         String uniqueCpf = Long.toString(randomCpf);
+        long randomCnpj = 1000000000000L + (long) (Math.random() * 9000000000000L);
+        String uniqueCnpj = Long.toString(randomCnpj);
+
+        // o colaborador precisa de uma empresa já cadastrada
+        mockMvc.perform(post(COMPANY_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CompanyRequestDto(uniqueCnpj, "Empresa"))))
+                .andExpect(status().isCreated());
 
         employeeRequestDto = new EmployeeRequestDto(
                 uniqueCpf,
@@ -54,7 +80,8 @@ public class EmployeeIntegrationTest {
                 SURNAME,
                 MAIL,
                 SALARY,
-                DEVELOPER
+                DEVELOPER,
+                uniqueCnpj
         );
         updateEmployeeDto = new UpdateRequestDto(
                 uniqueCpf,
@@ -76,6 +103,15 @@ public class EmployeeIntegrationTest {
                 .contains(employeeRequestDto.cpf());
     }
     @Test
+    void shouldRejectDuplicatedCpf() throws Exception {
+        methodPost_isCreated();
+
+        mockMvc.perform(post(BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employeeRequestDto)))
+                .andExpect(status().isBadRequest());
+    }
+    @Test
     void shouldUpdateEmployeeAndGetEmployee() throws Exception {
         // 1. Cria o funcionário via POST
         methodPost_isCreated();
@@ -104,6 +140,94 @@ public class EmployeeIntegrationTest {
         assertThat(responseDto.email()).isEqualTo(updateEmployeeDto.email());
     }
     @Test
+    void shouldPatchOnlySentColumnsWithSingleUpdate() throws Exception {
+        methodPost_isCreated();
+        var employeeId = filterByCpfToGetId(getEmployeeResponseDtoPaginatedList(methodGetPaginatedEmployee())).id();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(patch(BASE_PATH + "/" + employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"position\":\"Tech Lead\",\"salary\":3500.0}"))
+                .andExpect(status().isOk());
+
+        // O UPDATE, o evento no outbox e a marcação da folha da empresa
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        var responseDto = objectMapper.readValue(methodGetId(employeeId).getResponse().getContentAsString(),
+                EmployeeResponseDto.class);
+        assertThat(responseDto.position()).isEqualTo("Tech Lead");
+        assertThat(responseDto.salary()).isEqualTo(3500.0);
+        assertThat(responseDto.name()).isEqualTo(NAME);
+        assertThat(responseDto.email()).isEqualTo(MAIL);
+    }
+    @Test
+    void shouldNotPatchUnknownEmployee() throws Exception {
+        mockMvc.perform(patch(BASE_PATH + "/" + UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"position\":\"Tech Lead\"}"))
+                .andExpect(status().isNotFound());
+    }
+    @Test
+    void shouldAnswerNotModifiedWhileEmployeeIsUnchanged() throws Exception {
+        methodPost_isCreated();
+        var employeeId = filterByCpfToGetId(getEmployeeResponseDtoPaginatedList(methodGetPaginatedEmployee())).id();
+
+        var eTag = methodGetId(employeeId).getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"");
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var notModified = mockMvc.perform(get(BASE_PATH + "/" + employeeId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertThat(notModified.getResponse().getContentAsString()).isEmpty();
+        assertThat(notModified.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+        // só a leitura da versão: o colaborador não é carregado
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        mockMvc.perform(patch(BASE_PATH + "/" + employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"position\":\"Tech Lead\"}"))
+                .andExpect(status().isOk());
+
+        // a nova versão invalida o ETag anterior
+        var changed = mockMvc.perform(get(BASE_PATH + "/" + employeeId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+    @Test
+    void shouldAnswerNotModifiedForUnchangedPage() throws Exception {
+        methodPost_isCreated();
+        var first = mockMvc.perform(get(BASE_PATH)
+                        .param("after", "")
+                        .param("size", "10")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andReturn();
+        var eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+
+        mockMvc.perform(get(BASE_PATH)
+                        .param("after", "")
+                        .param("size", "10")
+                        .param("withTotal", "true")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // o total entra no ETag da página
+        addEmployee("Maria", DEVELOPER, SALARY);
+        mockMvc.perform(get(BASE_PATH)
+                        .param("after", "")
+                        .param("size", "10")
+                        .param("withTotal", "true")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+    @Test
     void shouldUpdateEmailEmployeeAndGetEmployee() throws Exception {
         // 1. Cria o funcionário via POST
         methodPost_isCreated();
@@ -133,6 +257,25 @@ public class EmployeeIntegrationTest {
         assertThat(responseDto.email()).isEqualTo(updateEmployeeDto.email());
     }
     @Test
+    void shouldKeepMissingSalaryNull() throws Exception {
+        methodPost_isCreated();
+        // A coluna aceita nulo: salário ausente não pode virar 0.00 nem entrar como zero na folha
+        jdbcTemplate.update("UPDATE tb_employee SET salary = NULL WHERE cpf = ?", employeeRequestDto.cpf());
+        var employeeId = filterByCpfToGetId(getEmployeeResponseDtoPaginatedList(methodGetPaginatedEmployee())).id();
+
+        mockMvc.perform(put(BASE_PATH + EMAIL_UPDATE + employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateEmployeeDto)))
+                .andExpect(status().isOk());
+        var responseDto = objectMapper.readValue(methodGetId(employeeId).getResponse().getContentAsString(),
+                EmployeeResponseDto.class);
+
+        assertThat(responseDto.email()).isEqualTo(updateEmployeeDto.email());
+        assertThat(responseDto.salary()).isNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT salary FROM tb_employee WHERE cpf = ?", BigDecimal.class,
+                employeeRequestDto.cpf())).isNull();
+    }
+    @Test
     void shouldDeleteEmployee() throws Exception {
         methodPost_isCreated();
 
@@ -159,6 +302,203 @@ public class EmployeeIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldServeRepeatedLookupsFromCacheAndInvalidateOnUpdate() throws Exception {
+        methodPost_isCreated();
+        var employeeId = filterByCpfToGetId(getEmployeeResponseDtoPaginatedList(methodGetPaginatedEmployee())).id();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        methodGetId(employeeId);
+        statistics.clear();
+        methodGetId(employeeId);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        mockMvc.perform(put(BASE_PATH + EMAIL_UPDATE + employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateEmployeeDto)))
+                .andExpect(status().isOk());
+
+        var responseDto = objectMapper.readValue(
+                methodGetId(employeeId).getResponse().getContentAsString(), EmployeeResponseDto.class);
+        assertThat(responseDto.email()).isEqualTo(updateEmployeeDto.email());
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:employees"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.measurements[0].value").isNumber());
+    }
+
+    @Test
+    void shouldImportEmployeesAndReportRowFailures() throws Exception {
+        methodPost_isCreated();
+        long randomCpf = 10000000000L + (long) (Math.random() * 90000000000L);
+        var newEmployee = new EmployeeRequestDto(Long.toString(randomCpf), NAME, SURNAME, MAIL, SALARY, DEVELOPER,
+                employeeRequestDto.cnpj());
+
+        var result = mockMvc.perform(post(BASE_PATH + "/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(newEmployee, employeeRequestDto))))
+                .andExpect(status().isOk())
+                .andReturn();
+        var importResult = objectMapper.readValue(result.getResponse().getContentAsString(), ImportResultDto.class);
+
+        assertThat(importResult.received()).isEqualTo(2);
+        assertThat(importResult.imported()).isEqualTo(1);
+        assertThat(importResult.errors()).singleElement()
+                .satisfies(error -> assertThat(error.row()).isEqualTo(2));
+    }
+
+    @Test
+    void shouldRejectMalformedImport() throws Exception {
+        mockMvc.perform(post(BASE_PATH + "/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"cpf\": \"123\"\n{"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldRejectPageSizeAboveLimit() throws Exception {
+        var tooLarge = Integer.toString(PaginatedList.MAX_PAGE_SIZE + 1);
+        var maxInt = Integer.toString(Integer.MAX_VALUE);
+
+        mockMvc.perform(get(BASE_PATH).param("after", "").param("size", maxInt))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(BASE_PATH).param("page", "0").param("size", tooLarge))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(BASE_PATH + "/search").param("size", tooLarge))
+                .andExpect(status().isBadRequest());
+        // O feed limita o lote em vez de recusar
+        mockMvc.perform(get(BASE_PATH + "/changes").param("size", maxInt))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldExportCompanyEmployeesAsNdjson() throws Exception {
+        methodPost_isCreated();
+
+        var body = methodExport("ndjson");
+        var lines = body.lines().toList();
+
+        assertThat(lines).hasSize(1);
+        var exported = objectMapper.readValue(lines.get(0), EmployeeResponseDto.class);
+        assertThat(exported.cpf()).isEqualTo(employeeRequestDto.cpf());
+        assertThat(exported.nameCompany()).isEqualTo("Empresa");
+    }
+
+    @Test
+    void shouldExportCompanyEmployeesAsCsv() throws Exception {
+        methodPost_isCreated();
+
+        var lines = methodExport("csv").lines().toList();
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).isEqualTo("id,cpf,name,surname,email,salary,position,nameCompany");
+        assertThat(lines.get(1)).contains(employeeRequestDto.cpf(), employeeRequestDto.email(), "Empresa");
+    }
+
+    @Test
+    void shouldWalkAllEmployeesByCursor() throws Exception {
+        methodPost_isCreated();
+
+        List<String> cpfs = new ArrayList<>();
+        String cursor = "";
+        do {
+            var result = mockMvc.perform(get(BASE_PATH)
+                            .param("after", cursor)
+                            .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            CursorPage<EmployeeResponseDto> page = objectMapper.readValue(
+                    result.getResponse().getContentAsString(), new TypeReference<>() {
+                    });
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(2);
+            assertThat(page.getTotalElements()).isNull();
+            page.getContent().forEach(e -> cpfs.add(e.cpf()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(cpfs).contains(employeeRequestDto.cpf()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() throws Exception {
+        mockMvc.perform(get(BASE_PATH)
+                        .param("after", "not-a-cursor")
+                        .param("size", "2"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldSearchCompanyEmployeesByPositionSalaryBandAndNamePrefix() throws Exception {
+        addEmployee("Ana", "Analyst", 3000.0);
+        addEmployee("André", DEVELOPER, 5000.0);
+        addEmployee("Antônio", DEVELOPER, 4000.0);
+        addEmployee("Bruno", DEVELOPER, 4500.0);
+        addEmployee("Alice", DEVELOPER, 9000.0);
+
+        var result = mockMvc.perform(get(BASE_PATH + "/search")
+                        .param("cnpj", employeeRequestDto.cnpj())
+                        .param("position", DEVELOPER)
+                        .param("minSalary", "3500")
+                        .param("maxSalary", "6000")
+                        .param("name", "An")
+                        .param("sort", "salary,desc"))
+                .andExpect(status().isOk())
+                .andReturn();
+        var page = getEmployeeResponseDtoPaginatedList(result);
+
+        assertThat(page.getContent()).extracting(EmployeeResponseDto::name).containsExactly("André", "Antônio");
+        assertThat(page.getContent()).allSatisfy(e -> assertThat(e.nameCompany()).isEqualTo("Empresa"));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldTreatLikeWildcardsInNamePrefixAsLiterals() throws Exception {
+        addEmployee("Ana", DEVELOPER, SALARY);
+
+        var result = mockMvc.perform(get(BASE_PATH + "/search")
+                        .param("cnpj", employeeRequestDto.cnpj())
+                        .param("name", "%"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(getEmployeeResponseDtoPaginatedList(result).getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptySearchForUnknownCompany() throws Exception {
+        var result = mockMvc.perform(get(BASE_PATH + "/search").param("cnpj", "0000000000000"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(getEmployeeResponseDtoPaginatedList(result).getTotalElements()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidSearch() throws Exception {
+        mockMvc.perform(get(BASE_PATH + "/search").param("sort", "cpf"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(BASE_PATH + "/search").param("sort", "salary,up"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(BASE_PATH + "/search").param("minSalary", "5000").param("maxSalary", "1000"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(BASE_PATH + "/search").param("minSalary", "-1"))
+                .andExpect(status().isBadRequest());
+        // 10 por página: a página 1000 começaria depois do resultado 10000
+        mockMvc.perform(get(BASE_PATH + "/search").param("page", "999").param("size", "10"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(BASE_PATH + "/search").param("page", "1000").param("size", "10"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void addEmployee(String name, String position, double salary) throws Exception {
+        long randomCpf = 10000000000L + (long) (Math.random() * 90000000000L);
+        mockMvc.perform(post(BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EmployeeRequestDto(Long.toString(randomCpf),
+                                name, SURNAME, MAIL, salary, position, employeeRequestDto.cnpj()))))
+                .andExpect(status().isCreated());
+    }
+
     private void methodPost_isCreated() throws Exception {
 
         mockMvc.perform(post(BASE_PATH)
@@ -166,6 +506,18 @@ public class EmployeeIntegrationTest {
                         .content(objectMapper.writeValueAsString(employeeRequestDto)))
                 .andExpect(status().isCreated());
     }
+    private String methodExport(String format) throws Exception {
+        var asyncResult = mockMvc.perform(get(BASE_PATH + "/export")
+                        .param("format", format)
+                        .param("cnpj", employeeRequestDto.cnpj()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
     private MvcResult methodGetId(UUID employeeId) throws Exception {
         return mockMvc.perform(get(BASE_PATH + "/" + employeeId))
                 .andExpect(status().isOk())
@@ -174,7 +526,7 @@ public class EmployeeIntegrationTest {
     private MvcResult methodGetPaginatedEmployee() throws Exception {
         return mockMvc.perform(get(BASE_PATH)
                         .param("page", "0")
-                        .param("size", "10"))
+                        .param("size", "1000"))
                 .andExpect(status().isOk())
                 .andReturn();
     }
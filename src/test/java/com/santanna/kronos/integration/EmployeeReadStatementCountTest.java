@@ -0,0 +1,80 @@
+package com.santanna.kronos.integration;
+
+import com.santanna.kronos.domain.repository.EmployeeRepository;
+import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import com.santanna.kronos.infrastructure.persistence.CompanyPersistence;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// As leituras de colaborador usam a projeção EmployeeView: um único SELECT com o nome da empresa,
+// sem entidades carregadas e sem consultas extras por linha
+@SpringBootTest
+public class EmployeeReadStatementCountTest {
+    public static final int COMPANIES = 4;
+    public static final int EMPLOYEES_PER_COMPANY = 5;
+    public static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private CompanyPersistence companyPersistence;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private final List<CompanyEntity> companies = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (int c = 0; c < COMPANIES; c++) {
+            companies.add(companyPersistence.saveAndFlush(EntityFixtures.companyWithEmployees(EMPLOYEES_PER_COMPANY)));
+        }
+    }
+
+    @Test
+    void shouldReadCursorPageInOneStatement() {
+        statistics.clear();
+        var page = employeeRepository.findEmployeesAfter(null, PAGE_SIZE, false);
+        var next = employeeRepository.findEmployeesAfter(page.getContent().get(PAGE_SIZE - 1).getIdEmployee(),
+                PAGE_SIZE, false);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE)
+                .allSatisfy(employee -> assertThat(employee.getCompany().getNameCompany()).isNotBlank());
+        assertThat(next.getContent()).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldReadOffsetPageWithContentAndCountStatementsOnly() {
+        statistics.clear();
+        var page = employeeRepository.findAllEmployees(0, PAGE_SIZE);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldReadSingleEmployeeWithCompanyNameInOneStatement() {
+        var expected = companies.get(0).getEmployees().get(0);
+
+        statistics.clear();
+        var employee = employeeRepository.findEmployee(expected.getIdEmployee()).orElseThrow();
+
+        assertThat(employee.getCpf()).isEqualTo(expected.getCpf());
+        assertThat(employee.getCompany().getNameCompany()).isEqualTo(companies.get(0).getNameCompany());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,40 @@
+package com.santanna.kronos.integration;
+
+import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import com.santanna.kronos.infrastructure.entity.EmployeeEntity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Empresas com colaboradores montadas direto nas entidades. Um único contador para CNPJ e CPF: as classes de teste
+// compartilham o mesmo contexto (e o mesmo banco), então os documentos nunca se repetem entre elas
+public final class EntityFixtures {
+    private static final AtomicLong NEXT_DOCUMENT = new AtomicLong(60_000_000_000L);
+
+    private EntityFixtures() {
+    }
+
+    public static CompanyEntity companyWithEmployees(int employeeCount) {
+        var document = NEXT_DOCUMENT.incrementAndGet();
+        var company = CompanyEntity.builder()
+                .cnpj(document + "00")
+                .nameCompany("Empresa " + document)
+                .build();
+        List<EmployeeEntity> employees = new ArrayList<>(employeeCount);
+        for (int e = 0; e < employeeCount; e++) {
+            employees.add(EmployeeEntity.builder()
+                    .cpf(Long.toString(NEXT_DOCUMENT.incrementAndGet()))
+                    .name("Nome")
+                    .surname("Sobrenome")
+                    .email("mail@exemplo.com")
+                    .salary(new BigDecimal("1000.00"))
+                    .position("Developer")
+                    .company(company)
+                    .build());
+        }
+        company.setEmployees(employees);
+        return company;
+    }
+}
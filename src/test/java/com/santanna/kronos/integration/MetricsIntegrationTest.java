@@ -0,0 +1,63 @@
+package com.santanna.kronos.integration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.application.dto.company.CompanyRequestDto;
+import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.application.dto.company.UpdateCompanyRequestDto;
+import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.domain.repository.CompanyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsIntegrationTest {
+    public static final String CNPJ = "7770000000001";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Test
+    void shouldExposeUseCaseRepositoryAndMapperMetricsForScraping() throws Exception {
+        mockMvc.perform(post("/v1/company")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CompanyRequestDto(CNPJ, "Empresa"))))
+                .andExpect(status().isCreated());
+        var list = mockMvc.perform(get("/v1/company?page=0&size=10"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        var id = objectMapper.readValue(list, new TypeReference<PaginatedList<CompanyResponseDto>>() {
+        }).getContent().get(0).id();
+        mockMvc.perform(put("/v1/company/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateCompanyRequestDto(CNPJ, "Empresa Nova"))))
+                .andExpect(status().isOk());
+        companyRepository.findCompany(id);
+
+        var scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("kronos_usecase_seconds_bucket{class=\"com.santanna.kronos.application.usecase.CompanyUseCase\",exception=\"none\",method=\"addCompany\"")
+                .contains("kronos_usecase_seconds_count{class=\"com.santanna.kronos.application.usecase.CompanyUseCase\",exception=\"none\",method=\"updateCompany\"} 1")
+                .contains("kronos_repository_seconds_count{class=\"com.santanna.kronos.infrastructure.persistence.impl.CompanyImpl\",exception=\"none\",method=\"findAllCompanies\"}")
+                .contains("kronos_mapper_seconds_count{mapping=\"company\"} 1")
+                .contains("kronos_company_employees_loaded_rows_count 1");
+    }
+}
@@ -0,0 +1,172 @@
+package com.santanna.kronos.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.application.dto.company.CompanyRequestDto;
+import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
+import com.santanna.kronos.application.usecase.OutboxRelayUseCase;
+import com.santanna.kronos.domain.model.AggregateType;
+import com.santanna.kronos.domain.model.ChangeEvent;
+import com.santanna.kronos.domain.model.ChangeType;
+import com.santanna.kronos.infrastructure.outbox.InMemoryChangeEventSink;
+import com.santanna.kronos.infrastructure.persistence.CompanyPersistence;
+import com.santanna.kronos.infrastructure.persistence.EmployeePersistence;
+import com.santanna.kronos.infrastructure.persistence.OutboxPersistence;
+import com.santanna.kronos.infrastructure.persistence.projection.EmployeeView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class OutboxIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private OutboxRelayUseCase outboxRelayUseCase;
+    @Autowired
+    private InMemoryChangeEventSink sink;
+    @Autowired
+    private OutboxPersistence outboxPersistence;
+    @Autowired
+    private CompanyPersistence companyPersistence;
+    @Autowired
+    private EmployeePersistence employeePersistence;
+    private String cnpj;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cnpj = Long.toString(1000000000000L + (long) (Math.random() * 9000000000000L));
+        mockMvc.perform(post("/v1/company")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CompanyRequestDto(cnpj, "Outbox"))))
+                .andExpect(status().isCreated());
+        companyId = companyPersistence.findIdByCnpj(cnpj).orElseThrow();
+    }
+
+    @Test
+    void shouldPublishEmployeeChangesInWriteOrder() throws Exception {
+        var cpf = randomCpf();
+        addEmployee(cpf).andExpect(status().isCreated());
+        var employeeId = employeePersistence.findViewByCpf(cpf).orElseThrow().getIdEmployee();
+        mockMvc.perform(patch("/v1/employee/" + employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"position\":\"Tech Lead\",\"salary\":3500.0}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/v1/employee/email/update/" + employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"novo@exemplo.com\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/employee/" + employeeId))
+                .andExpect(status().isNoContent());
+
+        outboxRelayUseCase.relayPending();
+
+        var events = eventsOf(employeeId);
+        assertThat(events).extracting(ChangeEvent::getType)
+                .containsExactly(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.UPDATED, ChangeType.DELETED);
+        assertThat(events.get(1).getFields()).containsExactly("salary", "position");
+        assertThat(events.get(2).getFields()).containsExactly("email");
+        assertThat(events).extracting(ChangeEvent::getId).isSorted();
+        assertThat(outboxPersistence.count()).isZero();
+    }
+
+    @Test
+    void shouldPublishCompanyChanges() throws Exception {
+        var cpf = randomCpf();
+        addEmployee(cpf).andExpect(status().isCreated());
+        var employeeId = employeePersistence.findViewByCpf(cpf).orElseThrow().getIdEmployee();
+        mockMvc.perform(patch("/v1/company/" + companyId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nameCompany\":\"Novo nome\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/v1/company/" + companyId))
+                .andExpect(status().isNoContent());
+
+        outboxRelayUseCase.relayPending();
+
+        var events = eventsOf(companyId);
+        assertThat(events).allMatch(event -> event.getAggregateType() == AggregateType.COMPANY);
+        assertThat(events).extracting(ChangeEvent::getType)
+                .containsExactly(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.DELETED);
+        assertThat(events.get(1).getFields()).containsExactly("nameCompany");
+        // A exclusão da empresa publica também a de cada colaborador
+        assertThat(eventsOf(employeeId)).extracting(ChangeEvent::getType)
+                .containsExactly(ChangeType.CREATED, ChangeType.DELETED);
+    }
+
+    @Test
+    void shouldNotRecordEventsOfRolledBackWrites() throws Exception {
+        var cpf = randomCpf();
+        addEmployee(cpf).andExpect(status().isCreated());
+        outboxRelayUseCase.relayPending();
+        sink.clear();
+
+        // CPF repetido: o INSERT falha e a transação inteira é desfeita
+        addEmployee(cpf).andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/v1/employee/" + UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"position\":\"Tech Lead\"}"))
+                .andExpect(status().isNotFound());
+
+        assertThat(outboxRelayUseCase.relayPending()).isZero();
+        assertThat(sink.getEvents()).isEmpty();
+    }
+
+    @Test
+    void shouldRecordOneEventPerImportedEmployee() throws Exception {
+        var ndjson = new StringBuilder();
+        long firstCpf = Long.parseLong(randomCpf());
+        for (int i = 0; i < 30; i++) {
+            ndjson.append(objectMapper.writeValueAsString(new EmployeeRequestDto(Long.toString(firstCpf + i),
+                    "Nome", "Sobrenome", "mail@exemplo.com", 1500.0, "Developer", cnpj))).append('\n');
+        }
+        mockMvc.perform(post("/v1/employee/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson.toString()))
+                .andExpect(status().isOk());
+
+        outboxRelayUseCase.relayPending();
+
+        var created = sink.getEvents().stream()
+                .filter(event -> event.getAggregateType() == AggregateType.EMPLOYEE)
+                .filter(event -> event.getType() == ChangeType.CREATED)
+                .map(ChangeEvent::getAggregateId)
+                .toList();
+        var imported = employeePersistence.findViewsByCompany(companyId, Limit.of(100))
+                .stream().map(EmployeeView::getIdEmployee).toList();
+        assertThat(imported).hasSize(30);
+        assertThat(created).containsAll(imported);
+    }
+
+    private ResultActions addEmployee(String cpf) throws Exception {
+        return mockMvc.perform(post("/v1/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EmployeeRequestDto(cpf, "Nome", "Sobrenome",
+                        "mail@exemplo.com", 1500.0, "Developer", cnpj))));
+    }
+
+    private List<ChangeEvent> eventsOf(UUID aggregateId) {
+        return sink.getEvents().stream().filter(event -> event.getAggregateId().equals(aggregateId)).toList();
+    }
+
+    private static String randomCpf() {
+        return Long.toString(10000000000L + (long) (Math.random() * 80000000000L));
+    }
+}
@@ -0,0 +1,221 @@
+package com.santanna.kronos.integration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.application.dto.company.CompanyRequestDto;
+import com.santanna.kronos.application.dto.employee.EmployeeRequestDto;
+import com.santanna.kronos.application.dto.employee.EmployeeResponseDto;
+import com.santanna.kronos.application.dto.payroll.PayrollSummaryDto;
+import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.domain.repository.PayrollRepository;
+import com.santanna.kronos.infrastructure.persistence.CompanyPersistence;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class PayrollIntegrationTest {
+    public static final String BASE_PATH = "/v1/payroll/companies";
+    public static final String DEVELOPER = "Developer";
+    public static final String ANALYST = "Analyst";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private CompanyPersistence companyPersistence;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PayrollRepository payrollRepository;
+    private String cnpj;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        cnpj = Long.toString(1000000000000L + (long) (Math.random() * 9000000000000L));
+        mockMvc.perform(post("/v1/company")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CompanyRequestDto(cnpj, "Folha"))))
+                .andExpect(status().isCreated());
+        companyId = companyPersistence.findIdByCnpj(cnpj).orElseThrow();
+    }
+
+    @Test
+    void shouldAggregateSalariesPerCompanyAndPosition() throws Exception {
+        addEmployee("Ana", ANALYST, 1000.0);
+        addEmployee("Bia", ANALYST, 2000.0);
+        addEmployee("Caio", DEVELOPER, 3000.0);
+        addEmployee("Davi", DEVELOPER, 4000.0);
+        addEmployee("Eva", DEVELOPER, 10000.0);
+        refreshSummaries();
+
+        var company = getSummary();
+        assertThat(company.headcount()).isEqualTo(5);
+        assertThat(company.totalSalary()).isEqualTo(20000.0);
+        assertThat(company.averageSalary()).isEqualTo(4000.0);
+        assertThat(company.minSalary()).isEqualTo(1000.0);
+        assertThat(company.maxSalary()).isEqualTo(10000.0);
+        assertThat(company.medianSalary()).isEqualTo(3000.0);
+        assertThat(company.p90Salary()).isEqualTo(10000.0);
+        assertThat(company.nameCompany()).isEqualTo("Folha");
+
+        var positions = getPositions();
+        assertThat(positions).extracting(PayrollSummaryDto::position).containsExactly(ANALYST, DEVELOPER);
+        assertThat(positions.get(0).headcount()).isEqualTo(2);
+        assertThat(positions.get(0).averageSalary()).isEqualTo(1500.0);
+        assertThat(positions.get(1).medianSalary()).isEqualTo(4000.0);
+        assertThat(positions.get(1).maxSalary()).isEqualTo(10000.0);
+    }
+
+    @Test
+    void shouldRefreshSummariesAfterUpdateAndDelete() throws Exception {
+        addEmployee("Ana", ANALYST, 1000.0);
+        addEmployee("Caio", DEVELOPER, 3000.0);
+        refreshSummaries();
+        assertThat(getSummary().totalSalary()).isEqualTo(4000.0);
+
+        var ana = findEmployee("Ana");
+        mockMvc.perform(patch("/v1/employee/" + ana.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"position\":\"Developer\",\"salary\":5000.0}"))
+                .andExpect(status().isOk());
+        refreshSummaries();
+        assertThat(getSummary().totalSalary()).isEqualTo(8000.0);
+        assertThat(getPositions()).extracting(PayrollSummaryDto::position).containsExactly(DEVELOPER);
+
+        mockMvc.perform(delete("/v1/employee/" + findEmployee("Caio").id()))
+                .andExpect(status().isNoContent());
+        refreshSummaries();
+        var company = getSummary();
+        assertThat(company.headcount()).isEqualTo(1);
+        assertThat(company.totalSalary()).isEqualTo(5000.0);
+    }
+
+    @Test
+    void shouldKeepCompanyMarkedUntilTheScheduledRefresh() throws Exception {
+        addEmployee("Ana", ANALYST, 1000.0);
+        addEmployee("Bia", ANALYST, 2000.0);
+        // Uma marcação por escrita, gravada no banco junto com ela
+        assertThat(pendingMarks()).isEqualTo(2);
+
+        // As consultas só leem: até o recálculo, listagem e detalhe mostram o mesmo resumo antigo
+        mockMvc.perform(get(BASE_PATH)).andExpect(status().isOk());
+        assertThat(getSummary().headcount()).isZero();
+        assertThat(getPositions()).isEmpty();
+        assertThat(pendingMarks()).isEqualTo(2);
+
+        refreshSummaries();
+        assertThat(getSummary().totalSalary()).isEqualTo(3000.0);
+        assertThat(pendingMarks()).isZero();
+    }
+
+    @Test
+    void shouldAggregateSalariesExactlyToTheCent() throws Exception {
+        // Em DOUBLE 0.1 + 0.2 + 0.3 daria 0.6000000000000001; em DECIMAL a soma é exata
+        addEmployee("Ana", ANALYST, 0.1);
+        addEmployee("Bia", ANALYST, 0.2);
+        addEmployee("Caio", ANALYST, 0.3);
+        refreshSummaries();
+
+        var company = getSummary();
+        assertThat(company.totalSalary()).isEqualTo(0.6);
+        assertThat(company.averageSalary()).isEqualTo(0.2);
+        assertThat(findEmployee("Bia").salary()).isEqualTo(0.2);
+    }
+
+    @Test
+    void shouldReadCompanyReportFromSummariesInConstantStatements() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            addEmployee("Nome" + i, DEVELOPER, 1000.0 + i);
+        }
+        refreshSummaries();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var json = mockMvc.perform(get(BASE_PATH).param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        PaginatedList<PayrollSummaryDto> page = objectMapper.readValue(json, new TypeReference<>() {
+        });
+
+        // Conteúdo e, se a página vier cheia, o count: nenhuma leitura de tb_employee
+        assertThat(page.getContent()).hasSizeLessThanOrEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldReportCompanyWithoutEmployeesAndRejectUnknownCompany() throws Exception {
+        var company = getSummary();
+        assertThat(company.headcount()).isZero();
+        assertThat(company.totalSalary()).isNull();
+        assertThat(getPositions()).isEmpty();
+
+        mockMvc.perform(get(BASE_PATH + "/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get(BASE_PATH + "/" + UUID.randomUUID() + "/positions"))
+                .andExpect(status().isNotFound());
+    }
+
+    // O que o recálculo agendado faria com esta empresa, sem depender das marcações das outras classes de teste
+    private void refreshSummaries() {
+        payrollRepository.refreshCompany(companyId);
+    }
+
+    private int pendingMarks() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_payroll_pending p " +
+                "JOIN tb_company c ON c.id = p.company_id WHERE c.cnpj = ?", Integer.class, cnpj);
+    }
+
+    private void addEmployee(String name, String position, double salary) throws Exception {
+        long randomCpf = 10000000000L + (long) (Math.random() * 90000000000L);
+        mockMvc.perform(post("/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EmployeeRequestDto(Long.toString(randomCpf),
+                                name, "Sobrenome", "mail@exemplo.com", salary, position, cnpj))))
+                .andExpect(status().isCreated());
+    }
+
+    private EmployeeResponseDto findEmployee(String name) throws Exception {
+        var json = mockMvc.perform(get("/v1/employee/search").param("cnpj", cnpj).param("name", name))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        PaginatedList<EmployeeResponseDto> page = objectMapper.readValue(json, new TypeReference<>() {
+        });
+        return page.getContent().get(0);
+    }
+
+    private PayrollSummaryDto getSummary() throws Exception {
+        var json = mockMvc.perform(get(BASE_PATH + "/" + companyId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, PayrollSummaryDto.class);
+    }
+
+    private List<PayrollSummaryDto> getPositions() throws Exception {
+        var json = mockMvc.perform(get(BASE_PATH + "/" + companyId + "/positions"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, new TypeReference<>() {
+        });
+    }
+}
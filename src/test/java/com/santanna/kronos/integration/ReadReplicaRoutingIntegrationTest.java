@@ -0,0 +1,151 @@
+package com.santanna.kronos.integration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.kronos.adapters.filter.ReadYourWritesFilter;
+import com.santanna.kronos.application.dto.company.CompanyRequestDto;
+import com.santanna.kronos.application.dto.company.CompanyResponseDto;
+import com.santanna.kronos.domain.common.ChangeSequence;
+import com.santanna.kronos.domain.common.PaginatedList;
+import com.santanna.kronos.infrastructure.datasource.ReplicaMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Dois H2 em memória fazem o papel de primário e réplica. Não há replicação entre eles: uma empresa gravada só
+// em um dos bancos mostra de onde a leitura saiu, e o batimento é "replicado" copiando-o à mão
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "kronos.datasource.replicas[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "kronos.datasource.replicas[0].username=sa",
+        "kronos.datasource.replicas[0].password=",
+        "kronos.datasource.replicas[0].driver-class-name=org.h2.Driver",
+        // Os testes acionam a verificação das réplicas diretamente
+        "kronos.datasource.replica-check-interval=PT1H"})
+@AutoConfigureMockMvc
+public class ReadReplicaRoutingIntegrationTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:kronos_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String BASE_PATH = "/v1/company";
+    private static final String BEAT = "SELECT beat_seq FROM tb_replication_heartbeat WHERE id = 1";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private ReplicaMonitor replicaMonitor;
+    @Autowired
+    private HikariDataSource primaryDataSource;
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        // Numa réplica de verdade o esquema chega pela replicação
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        catchUpReplica();
+    }
+
+    @Test
+    void shouldReadFromReplicaThatCaughtUp() throws Exception {
+        var cnpj = insertOnReplicaOnly();
+
+        assertThat(listedCnpjs(get(BASE_PATH))).contains(cnpj);
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimaryUntilReplicaAppliesThem() throws Exception {
+        var cnpj = randomCnpj();
+        var cookie = mockMvc.perform(post(BASE_PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CompanyRequestDto(cnpj, "Primário"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.WRITE_POSITION_COOKIE);
+        assertThat(cookie).isNotNull();
+
+        // O batimento aplicado pela réplica é anterior à escrita: só o primário atende esse cliente
+        assertThat(listedCnpjs(get(BASE_PATH).cookie(cookie))).contains(cnpj);
+        assertThat(listedCnpjs(get(BASE_PATH))).doesNotContain(cnpj);
+
+        catchUpReplica();
+        assertThat(listedCnpjs(get(BASE_PATH).cookie(cookie))).doesNotContain(cnpj);
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaLags() throws Exception {
+        var cnpj = insertOnReplicaOnly();
+        replica.update("UPDATE tb_replication_heartbeat SET beat_seq = ? WHERE id = 1",
+                ChangeSequence.of(Instant.now().minus(1, ChronoUnit.MINUTES)));
+        replicaMonitor.check();
+
+        assertThat(listedCnpjs(get(BASE_PATH))).doesNotContain(cnpj);
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaFailsHealthCheck() throws Exception {
+        var cnpj = insertOnReplicaOnly();
+        replica.execute("ALTER TABLE tb_replication_heartbeat RENAME TO tb_replication_heartbeat_off");
+        try {
+            replicaMonitor.check();
+            assertThat(listedCnpjs(get(BASE_PATH))).doesNotContain(cnpj);
+        } finally {
+            replica.execute("ALTER TABLE tb_replication_heartbeat_off RENAME TO tb_replication_heartbeat");
+        }
+
+        catchUpReplica();
+        assertThat(listedCnpjs(get(BASE_PATH))).contains(cnpj);
+    }
+
+    // Batimento novo no primário, copiado para a réplica e lido na verificação seguinte
+    private void catchUpReplica() {
+        replicaMonitor.check();
+        replica.update("UPDATE tb_replication_heartbeat SET beat_seq = ? WHERE id = 1",
+                primary.queryForObject(BEAT, Long.class));
+        replicaMonitor.check();
+    }
+
+    private String insertOnReplicaOnly() {
+        var cnpj = randomCnpj();
+        var id = UUID.randomUUID();
+        var bytes = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+        replica.update("INSERT INTO tb_company (id, name_company, cnpj) VALUES (?, ?, ?)", bytes, "Réplica", cnpj);
+        return cnpj;
+    }
+
+    private List<String> listedCnpjs(MockHttpServletRequestBuilder request) throws Exception {
+        var json = mockMvc.perform(request.param("page", "0").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        PaginatedList<CompanyResponseDto> page = objectMapper.readValue(json, new TypeReference<>() {
+        });
+        return page.getContent().stream().map(CompanyResponseDto::cnpj).toList();
+    }
+
+    private static String randomCnpj() {
+        return Long.toString(1000000000000L + (long) (Math.random() * 9000000000000L));
+    }
+}
@@ -0,0 +1,137 @@
+package com.santanna.kronos.integration;
+
+import com.santanna.kronos.KronosApplication;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Executar com: gradle loadTest
+@Tag("load")
+public class RequestThreadingLoadTest {
+    public static final int TOMCAT_THREADS = 20;
+    public static final int CLIENTS = 400;
+    public static final int REQUESTS_PER_CLIENT = 25;
+    public static final int SEED_EMPLOYEES = 200;
+    @Test
+    void shouldDegradeOnlyWithRetryableRejectionsInBothThreadModes() throws Exception {
+        var platform = run(false);
+        var virtual = run(true);
+        // Vazão e latências variam com a máquina: ficam no relatório, não nas asserções
+        System.out.printf("plataforma: %s%nvirtuais:   %s%n", platform, virtual);
+
+        for (var result : List.of(platform, virtual)) {
+            // Sob saturação a resposta é 200 ou 503 com Retry-After; nada de 500, timeout ou conexão recusada
+            assertThat(result.failures()).as(result.toString()).isZero();
+            assertThat(result.ok() + result.rejected()).isEqualTo(CLIENTS * REQUESTS_PER_CLIENT);
+            assertThat(result.ok()).isPositive();
+            // O excesso espera no Tomcat ou é recusado no filtro, nunca na fila do pool
+            assertThat(result.poolTimeouts()).as(result.toString()).isZero();
+        }
+        // Com threads da plataforma o Tomcat enfileira: sem o filtro, ninguém recebe 503
+        assertThat(platform.rejected()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (var context = new SpringApplicationBuilder(KronosApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS)
+                .run()) {
+            var baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            var client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+            seed(client, baseUrl);
+
+            var listing = HttpRequest.newBuilder(URI.create(baseUrl + "/v1/employee?page=0&size=20"))
+                    .timeout(Duration.ofSeconds(30)).GET().build();
+            for (int i = 0; i < 200; i++) {
+                client.send(listing, HttpResponse.BodyHandlers.discarding());
+            }
+
+            var latencies = Collections.synchronizedList(new ArrayList<Long>(CLIENTS * REQUESTS_PER_CLIENT));
+            var ok = new AtomicInteger();
+            var rejected = new AtomicInteger();
+            var failures = new AtomicInteger();
+            long start = System.nanoTime();
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>(CLIENTS);
+                for (int c = 0; c < CLIENTS; c++) {
+                    futures.add(executor.submit(() -> {
+                        for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                            long sent = System.nanoTime();
+                            try {
+                                var status = client.send(listing, HttpResponse.BodyHandlers.discarding()).statusCode();
+                                if (status == 200) ok.incrementAndGet();
+                                else if (status == 503) rejected.incrementAndGet();
+                                else failures.incrementAndGet();
+                            } catch (Exception e) {
+                                failures.incrementAndGet();
+                            }
+                            latencies.add(System.nanoTime() - sent);
+                        }
+                        return null;
+                    }));
+                }
+                for (var future : futures) {
+                    future.get();
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            double poolTimeouts = context.getBean(MeterRegistry.class).find("hikaricp.connections.timeout")
+                    .counters().stream().mapToDouble(Counter::count).sum();
+
+            var sorted = latencies.stream().sorted().toList();
+            return new Result(
+                    ok.get() * 1_000_000_000.0 / elapsed,
+                    sorted.get(sorted.size() / 2) / 1_000_000,
+                    sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1) / 1_000_000,
+                    ok.get(), rejected.get(), failures.get(), (long) poolTimeouts);
+        }
+    }
+
+    private static void seed(HttpClient client, String baseUrl) throws Exception {
+        var cnpj = String.valueOf(1_000_000_000_000L + (long) (Math.random() * 8_000_000_000_000L));
+        post(client, baseUrl + "/v1/company", """
+                {"cnpj":"%s","nameCompany":"Empresa Carga"}""".formatted(cnpj));
+        var ndjson = new StringBuilder();
+        for (int i = 0; i < SEED_EMPLOYEES; i++) {
+            ndjson.append("""
+                    {"cpf":"%d","name":"Nome","surname":"Sobrenome","email":"mail@exemplo.com","salary":1500.0,"position":"Developer","cnpj":"%s"}
+                    """.formatted(20_000_000_000L + i, cnpj));
+        }
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/v1/employee/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString())).build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static void post(HttpClient client, String url, String json) throws Exception {
+        client.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private record Result(double throughput, long p50Millis, long p99Millis, int ok, int rejected, int failures,
+                          long poolTimeouts) {
+        @Override
+        public String toString() {
+            return "%.0f req/s | p50 %d ms | p99 %d ms | ok %d | 503 %d | erros %d | timeouts do pool %d"
+                    .formatted(throughput, p50Millis, p99Millis, ok, rejected, failures, poolTimeouts);
+        }
+    }
+}
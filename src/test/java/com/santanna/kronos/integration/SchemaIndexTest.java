@@ -0,0 +1,82 @@
+package com.santanna.kronos.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldLookUpEmployeeByCpfThroughUniqueIndex() {
+        assertThat(explain("SELECT * FROM tb_employee WHERE cpf = '12345678901'"))
+                .contains("uk_employee_cpf")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void shouldLookUpCompanyByCnpjThroughUniqueIndex() {
+        assertThat(explain("SELECT id FROM tb_company WHERE cnpj = '1234567890112'"))
+                .contains("uk_company_cnpj")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void shouldFilterEmployeesByCompanyThroughIndex() {
+        assertThat(explain("SELECT * FROM tb_employee WHERE company_id = X'00000000000000000000000000000000'"))
+                .containsAnyOf("idx_employee_company", "fk_employee_company")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void shouldPageCompanyEmployeesThroughKeysetIndex() {
+        assertThat(explain("SELECT * FROM tb_employee WHERE company_id = X'00000000000000000000000000000000' " +
+                "AND id_employee > X'00000000000000000000000000000000' ORDER BY id_employee LIMIT 11"))
+                .contains("idx_employee_company_keyset")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void shouldSearchCompanyEmployeesByPositionAndSalaryThroughCompositeIndex() {
+        assertThat(explain("SELECT * FROM tb_employee WHERE company_id = X'00000000000000000000000000000000' " +
+                "AND position = 'Developer' AND salary BETWEEN 1000 AND 5000"))
+                .contains("idx_employee_company_position_salary")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void shouldSearchEmployeesByPositionAndSalaryThroughCompositeIndex() {
+        assertThat(explain("SELECT * FROM tb_employee WHERE position = 'Developer' AND salary >= 1000"))
+                .contains("idx_employee_position_salary")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void shouldSearchEmployeesByNamePrefixThroughIndex() {
+        assertThat(explain("SELECT * FROM tb_employee WHERE name LIKE 'Jo%'"))
+                .contains("idx_employee_name")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void shouldReadEmployeeChangesThroughSequenceIndex() {
+        assertThat(explain("SELECT * FROM tb_employee WHERE change_seq > 1000 AND change_seq <= 2000 " +
+                "ORDER BY change_seq, id_employee LIMIT 101"))
+                .contains("idx_employee_change")
+                .doesNotContainIgnoringCase("tableScan");
+        assertThat(explain("SELECT * FROM tb_employee_tombstone WHERE deleted_seq > 1000 AND deleted_seq <= 2000 " +
+                "ORDER BY deleted_seq, id_employee LIMIT 101"))
+                .contains("idx_employee_tombstone_seq")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+    }
+}
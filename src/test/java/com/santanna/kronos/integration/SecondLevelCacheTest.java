@@ -0,0 +1,89 @@
+package com.santanna.kronos.integration;
+
+import com.santanna.kronos.infrastructure.entity.CompanyEntity;
+import com.santanna.kronos.infrastructure.persistence.CompanyPersistence;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class SecondLevelCacheTest {
+    public static final int COMPANIES = 3;
+    public static final int EMPLOYEES_PER_COMPANY = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CompanyPersistence companyPersistence;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldServeRepeatedCompanyReadsFromSecondLevelCache() {
+        List<UUID> ids = new ArrayList<>();
+        for (int c = 0; c < COMPANIES; c++) {
+            ids.add(companyPersistence.saveAndFlush(EntityFixtures.companyWithEmployees(EMPLOYEES_PER_COMPANY)).getId());
+        }
+        ids.forEach(companyPersistence::findById);
+
+        statistics.clear();
+        ids.forEach(companyPersistence::findById);
+
+        var companies = statistics.getEntityStatistics(CompanyEntity.class.getName());
+        assertThat(companies.getLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(CompanyEntity.CACHE_REGION).getHitCount())
+                .isEqualTo(COMPANIES);
+    }
+
+    @Test
+    void shouldServeRepeatedCnpjLookupsFromQueryCache() {
+        var company = companyPersistence.saveAndFlush(EntityFixtures.companyWithEmployees(EMPLOYEES_PER_COMPANY));
+        companyPersistence.findIdByCnpj(company.getCnpj());
+
+        statistics.clear();
+        var id = companyPersistence.findIdByCnpj(company.getCnpj());
+
+        assertThat(id).contains(company.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExposeCacheStatisticsAsMetrics() throws Exception {
+        var company = companyPersistence.saveAndFlush(EntityFixtures.companyWithEmployees(EMPLOYEES_PER_COMPANY));
+        companyPersistence.findById(company.getId());
+        companyPersistence.findIdByCnpj(company.getCnpj());
+
+        var scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .containsPattern("hibernate_second_level_cache_requests_total\\{[^}]*region=\"company\"[^}]*result=\"hit\"")
+                .contains("hibernate_cache_query_requests_total");
+    }
+}